@@ -0,0 +1,80 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token validations per second. {@code legacyValidateAndExtract} replays the previous request path:
+ * a new key and parser for every call, and the token parsed twice (validate, then extract the username).
+ * {@code parseClaims} is the current single-pass path with the shared key and parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET =
+            "YourVerySecureSecretKeyForJWTTokenGenerationMustBeLongEnoughAtLeast256BitsForHS256Algorithm";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86400000L);
+        jwtUtils.init();
+
+        token = jwtUtils.generateToken(new CustomUserDetails(1L, "admin@example.com", "", UserRole.ADMIN,
+                List.of(new SimpleGrantedAuthority("ROLE_" + UserRole.ADMIN.name()))));
+    }
+
+    @Benchmark
+    public String legacyValidateAndExtract() {
+        Claims validated = legacyParse(token);
+        if (validated.getExpiration().before(new Date())) {
+            return null;
+        }
+        return legacyParse(token).getSubject();
+    }
+
+    @Benchmark
+    public String parseClaims() {
+        return jwtUtils.parseClaims(token).getSubject();
+    }
+
+    private static Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
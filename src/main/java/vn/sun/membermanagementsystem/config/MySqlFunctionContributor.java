@@ -0,0 +1,24 @@
+package vn.sun.membermanagementsystem.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL functions used from JPQL. Registered through META-INF/services so Hibernate picks it up
+ * when building the session factory.
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        // function('match_against', column1, column2, query): relevance of a boolean-mode FULLTEXT search
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against(?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
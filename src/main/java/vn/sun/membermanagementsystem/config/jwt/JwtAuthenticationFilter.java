@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.config.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,12 +24,22 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    // Request attribute holding the parsed claims of the current token, e.g. for logout
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
     
     @Autowired
     private JwtUtils jwtUtils;
     
     @Autowired
     private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
+    // Stateless mode builds the principal from the token claims without loading the user
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,21 +47,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String username = jwtUtils.extractUsername(jwt);
+                Claims claims = jwtUtils.parseClaims(jwt);
                 
-                if (username != null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    
-                    if (jwtUtils.validateToken(jwt, userDetails)) {
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(
-                                userDetails, 
-                                null, 
-                                userDetails.getAuthorities()
-                            );
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (claims != null && claims.getSubject() != null && !tokenDenyList.isRevoked(claims)) {
+                    UserDetails userDetails = stateless ? jwtUtils.toUserDetails(claims) : null;
+                    if (userDetails == null) {
+                        userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
                     }
+                    
+                    UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(
+                            userDetails, 
+                            null, 
+                            userDetails.getAuthorities()
+                        );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    request.setAttribute(CLAIMS_ATTRIBUTE, claims);
                 }
             }
         } catch (Exception e) {
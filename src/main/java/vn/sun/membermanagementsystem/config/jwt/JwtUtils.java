@@ -2,35 +2,59 @@ package vn.sun.membermanagementsystem.config.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
+import vn.sun.membermanagementsystem.enums.UserRole;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtils {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    // "iat" only has second precision, too coarse to order a token against a revocation
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
     
     @Value("${jwt.secret}")
     private String jwtSecret;
     
     @Value("${jwt.expiration}")
     private Long jwtExpirationMs;
-    
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+
+    // Both are immutable and thread-safe, so they are built once and shared by all requests
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
     
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            claims.put(USER_ID_CLAIM, customUserDetails.getUserId());
+            claims.put(ROLE_CLAIM, customUserDetails.getRole().name());
+        }
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -38,12 +62,15 @@ public class JwtUtils {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
         
+        claims.put(ISSUED_AT_MS_CLAIM, now.getTime());
+
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -61,21 +88,16 @@ public class JwtUtils {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
     
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    public Boolean validateToken(String token, UserDetails userDetails) {
+    /**
+     * Validates and extracts in a single pass: verifies the signature and expiration once and
+     * returns the claims, or null if the token is not valid.
+     */
+    public Claims parseClaims(String token) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return extractAllClaims(token);
         } catch (SecurityException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -84,9 +106,30 @@ public class JwtUtils {
             logger.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             logger.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("Invalid JWT: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * Builds the principal from the token alone. Returns null for tokens issued without
+     * user id and role claims, which still need the user to be loaded.
+     */
+    public CustomUserDetails toUserDetails(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+
+        return new CustomUserDetails(
+                userId,
+                claims.getSubject(),
+                "",
+                UserRole.valueOf(role),
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)));
     }
 }
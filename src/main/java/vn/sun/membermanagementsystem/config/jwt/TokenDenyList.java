@@ -0,0 +1,82 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory revocation list for stateless JWT authentication. Holds single tokens revoked on
+ * logout, and users whose tokens must all stop working because their role, status or
+ * credentials changed. Entries are kept only as long as a token they cover could still be valid.
+ * The list is per application instance.
+ */
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    // token id -> token expiry
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    // user id -> time of revocation; tokens issued until then are rejected
+    private final Map<Long, Instant> revokedUsers = new ConcurrentHashMap<>();
+
+    @Value("${jwt.expiration}")
+    private Long jwtExpirationMs;
+
+    public void revokeToken(String tokenId, Date expiresAt) {
+        if (tokenId != null && expiresAt != null) {
+            revokedTokens.put(tokenId, expiresAt.toInstant());
+        }
+    }
+
+    public void revokeUser(Long userId) {
+        if (userId != null) {
+            revokedUsers.put(userId, Instant.now());
+            log.info("Revoked issued tokens for user ID: {}", userId);
+        }
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+
+        Long userId = claims.get(JwtUtils.USER_ID_CLAIM, Long.class);
+        Instant revokedAt = userId != null ? revokedUsers.get(userId) : null;
+        if (revokedAt == null) {
+            return false;
+        }
+        Instant issuedAt = issuedAt(claims);
+        return issuedAt != null && !issuedAt.isAfter(revokedAt);
+    }
+
+    private Instant issuedAt(Claims claims) {
+        Long issuedAtMs = claims.get(JwtUtils.ISSUED_AT_MS_CLAIM, Long.class);
+        if (issuedAtMs != null) {
+            return Instant.ofEpochMilli(issuedAtMs);
+        }
+        // Tokens issued without the millisecond claim only carry whole seconds, so one issued in
+        // the second of the revocation cannot be told apart and is rejected
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant().plusMillis(999) : null;
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+        // Any token issued before this point has expired on its own
+        Instant oldestValidIssue = now.minusMillis(jwtExpirationMs);
+        revokedUsers.values().removeIf(revokedAt -> revokedAt.isBefore(oldestValidIssue));
+    }
+}
@@ -32,7 +32,7 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
         String email = authentication.getName();
-        logAuthEvent("LOGIN", email, "Admin login successful", request);
+        logAuthEvent("LOGIN", CustomUserDetails.userIdOf(authentication), email, "Admin login successful", request);
         
         response.sendRedirect(request.getContextPath() + "/admin/users");
     }
@@ -42,7 +42,7 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
                                 Authentication authentication) throws IOException, ServletException {
         if (authentication != null) {
             String email = authentication.getName();
-            logAuthEvent("LOGOUT", email, "Admin logout successful", request);
+            logAuthEvent("LOGOUT", CustomUserDetails.userIdOf(authentication), email, "Admin logout successful", request);
         }
         
         response.sendRedirect(request.getContextPath() + "/admin/login?logout=true");
@@ -52,28 +52,22 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
         String email = request.getParameter("username");
-        logAuthEvent("LOGIN_FAILED", email, "Login failed: " + exception.getMessage(), request);
+        logAuthEvent("LOGIN_FAILED", findUserIdByEmail(email), email, "Login failed: " + exception.getMessage(), request);
         
         response.sendRedirect(request.getContextPath() + "/admin/login?error=true");
     }
 
-    public void logApiLogin(String email, HttpServletRequest request) {
-        logAuthEvent("API_LOGIN", email, "User API login successful", request);
+    public void logApiLogin(Long userId, String email, HttpServletRequest request) {
+        logAuthEvent("API_LOGIN", userId, email, "User API login successful", request);
     }
 
-    public void logApiLogout(String email, HttpServletRequest request) {
-        logAuthEvent("API_LOGOUT", email, "User API logout", request);
+    public void logApiLogout(Long userId, String email, HttpServletRequest request) {
+        logAuthEvent("API_LOGOUT", userId, email, "User API logout", request);
     }
 
-    private void logAuthEvent(String action, String email, String description, HttpServletRequest request) {
+    private void logAuthEvent(String action, Long userId, String email, String description,
+                              HttpServletRequest request) {
         try {
-            Long userId = null;
-            if (email != null) {
-                userId = userRepository.findByEmail(email)
-                        .map(User::getId)
-                        .orElse(null);
-            }
-
             ActivityLog activityLog = ActivityLog.builder()
                     .action(action)
                     .entityType("AUTH")
@@ -92,6 +86,19 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
         }
     }
 
+    // Only for failed logins: nobody is authenticated, so there is no principal to read the id from
+    private Long findUserIdByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        try {
+            return userRepository.findByEmail(email).map(User::getId).orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to look up user for auth activity: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
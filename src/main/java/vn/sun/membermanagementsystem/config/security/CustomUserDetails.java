@@ -0,0 +1,37 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import java.util.Collection;
+
+/**
+ * Principal for authenticated users. Carries the user's id and role so request handling and
+ * activity logging can identify the actor without looking the user up again.
+ */
+@Getter
+public class CustomUserDetails extends User {
+
+    private final Long userId;
+    private final UserRole role;
+
+    public CustomUserDetails(Long userId, String email, String password, UserRole role,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.userId = userId;
+        this.role = role;
+    }
+
+    /**
+     * Returns the id of the authenticated user, or null if the authentication does not carry one.
+     */
+    public static Long userIdOf(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails details) {
+            return details.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,110 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, time-limited cache of {@link CustomUserDetails} keyed by email. The least recently
+ * used entry is dropped once {@code maxSize} is reached and entries expire after {@code ttl}.
+ * Callers get a copy of the cached entry, because Spring Security erases the password on the
+ * principal it authenticates.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    public UserDetailsCache(@Value("${user-details-cache.max-size:10000}") int maxSize,
+                            @Value("${user-details-cache.ttl:5m}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(email);
+            if (entry != null && System.nanoTime() - entry.cachedAt > ttlNanos) {
+                entries.remove(email);
+                entry = null;
+            }
+        }
+        return entry != null ? copyOf(entry.user) : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (maxSize <= 0 || !(user instanceof CustomUserDetails details)) {
+            return;
+        }
+
+        Entry entry = new Entry(copyOf(details), System.nanoTime());
+        synchronized (entries) {
+            entries.put(details.getUsername(), entry);
+        }
+    }
+
+    /**
+     * Evicts the user now and, inside a transaction, once more after commit so a lookup racing
+     * with the transaction cannot put the old state back.
+     */
+    @Override
+    public void removeUserFromCache(String email) {
+        if (email == null) {
+            return;
+        }
+
+        remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(email);
+                }
+            });
+        }
+    }
+
+    private void remove(String email) {
+        synchronized (entries) {
+            entries.remove(email);
+        }
+        log.debug("Evicted cached user details for: {}", email);
+    }
+
+    private static CustomUserDetails copyOf(UserDetails user) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        return new CustomUserDetails(
+                details.getUserId(),
+                details.getUsername(),
+                details.getPassword(),
+                details.getRole(),
+                details.getAuthorities());
+    }
+
+    private record Entry(CustomUserDetails user, long cachedAt) {
+    }
+}
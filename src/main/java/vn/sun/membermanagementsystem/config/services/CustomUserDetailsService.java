@@ -6,6 +6,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
+import vn.sun.membermanagementsystem.config.security.UserDetailsCache;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 
@@ -16,17 +18,28 @@ public class CustomUserDetailsService implements UserDetailsService {
     
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        UserDetails cached = userDetailsCache.getUserFromCache(email);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole())))
-                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(
+                user.getId(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getRole(),
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole())));
+        userDetailsCache.putUserInCache(userDetails);
+        return userDetails;
     }
     
     public User getUserByEmail(String email) {
@@ -11,6 +11,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
 import vn.sun.membermanagementsystem.services.ActivityLogService;
 
@@ -31,11 +32,32 @@ public class AdminActivityLogController {
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean skipCount,
             Model model) {
         
         if (entityType != null && entityType.trim().isEmpty()) {
             entityType = null;
         }
+
+        model.addAttribute("pageSize", size);
+        model.addAttribute("entityType", entityType);
+        model.addAttribute("fromDate", fromDate);
+        model.addAttribute("toDate", toDate);
+        model.addAttribute("entityTypes", activityLogRepository.findDistinctEntityTypes());
+
+        // Passing a cursor (empty for the newest logs) switches to keyset pagination: no OFFSET scan for deep pages
+        if (cursor != null) {
+            CursorPage<ActivityLogDTO> logPage = activityLogService.searchLogsBefore(
+                    entityType, fromDate, toDate, cursor, size, skipCount);
+
+            model.addAttribute("keyset", true);
+            model.addAttribute("logs", logPage.getContent());
+            model.addAttribute("nextCursor", logPage.getNextCursor());
+            model.addAttribute("totalItems", logPage.getTotalElements());
+            model.addAttribute("skipCount", skipCount);
+            return "admin/activity-logs/index";
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         
@@ -50,13 +72,7 @@ public class AdminActivityLogController {
         model.addAttribute("currentPage", page);
         model.addAttribute("totalPages", logPage.getTotalPages());
         model.addAttribute("totalItems", logPage.getTotalElements());
-        model.addAttribute("pageSize", size);
-        
-        model.addAttribute("entityType", entityType);
-        model.addAttribute("fromDate", fromDate);
-        model.addAttribute("toDate", toDate);
-        
-        model.addAttribute("entityTypes", activityLogRepository.findDistinctEntityTypes());
+        model.addAttribute("keyset", false);
         
         return "admin/activity-logs/index";
     }
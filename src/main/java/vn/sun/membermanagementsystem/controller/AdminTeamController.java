@@ -28,6 +28,7 @@ import vn.sun.membermanagementsystem.dto.request.CreateTeamRequest;
 import vn.sun.membermanagementsystem.dto.request.UpdateTeamRequest;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvPreviewResult;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamDetailDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamStatisticsDTO;
@@ -261,9 +262,10 @@ public class AdminTeamController {
                 return response;
             }
 
-            int addedCount = teamService.addMembersToTeam(teamId, userIds);
+            BulkMemberAddResultDTO result = teamService.addMembersToTeam(teamId, userIds);
             response.put("success", true);
-            response.put("addedCount", addedCount);
+            response.put("addedCount", result.getAddedCount());
+            response.put("outcomes", result.getOutcomes());
             return response;
         } catch (BadRequestException e) {
             response.put("success", false);
@@ -403,10 +405,11 @@ public class AdminTeamController {
 
     @PostMapping("/import")
     public String importTeams(@RequestParam("file") MultipartFile file,
+            @RequestParam(value = "atomic", defaultValue = "true") boolean atomic,
             RedirectAttributes redirectAttributes) {
         log.info("Importing teams from CSV file: {}", file.getOriginalFilename());
 
-        CsvImportResult<Team> result = teamCsvImportService.importFromCsv(file);
+        CsvImportResult<Team> result = teamCsvImportService.importFromCsvStreaming(file, atomic);
 
         if (result.hasErrors()) {
             redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
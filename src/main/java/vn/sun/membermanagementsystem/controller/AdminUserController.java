@@ -76,8 +76,7 @@ public class AdminUserController {
     
     @GetMapping("/admin/users/create")
     public String showCreateUserForm(Model model) {
-        Pageable pageable = PageRequest.of(0, 1000);
-        model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+        model.addAttribute("positions", positionService.getAllPositions());
         model.addAttribute("skills", skillService.getAllSkills());
         model.addAttribute("userRoles", UserRole.values());
         model.addAttribute("userStatuses", UserStatus.values());
@@ -90,8 +89,7 @@ public class AdminUserController {
         UserUpdateDTO user = userService.getUserFormById(id);
         model.addAttribute("user", user);
         
-        Pageable pageable = PageRequest.of(0, 1000);
-        model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+        model.addAttribute("positions", positionService.getAllPositions());
         model.addAttribute("skills", skillService.getAllSkills());
         model.addAttribute("userRoles", UserRole.values());
         model.addAttribute("userStatuses", UserStatus.values());
@@ -109,8 +107,7 @@ public class AdminUserController {
         System.out.println("Has errors: " + bindingResult.hasErrors());
         if (bindingResult.hasErrors()) {
             System.out.println("Errors: " + bindingResult.getAllErrors());
-            Pageable pageable = PageRequest.of(0, 1000);
-            model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+            model.addAttribute("positions", positionService.getAllPositions());
             model.addAttribute("skills", skillService.getAllSkills());
             model.addAttribute("userRoles", UserRole.values());
             model.addAttribute("userStatuses", UserStatus.values());
@@ -124,8 +121,7 @@ public class AdminUserController {
         } catch (Exception e) {
             System.out.println("Exception: " + e.getMessage());
             e.printStackTrace();
-            Pageable pageable = PageRequest.of(0, 1000);
-            model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+            model.addAttribute("positions", positionService.getAllPositions());
             model.addAttribute("skills", skillService.getAllSkills());
             model.addAttribute("userRoles", UserRole.values());
             model.addAttribute("userStatuses", UserStatus.values());
@@ -151,8 +147,7 @@ public class AdminUserController {
             System.out.println("Errors: " + bindingResult.getAllErrors());
             UserUpdateDTO user = userService.getUserFormById(id);
             model.addAttribute("user", user);
-            Pageable pageable = PageRequest.of(0, 1000);
-            model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+            model.addAttribute("positions", positionService.getAllPositions());
             model.addAttribute("skills", skillService.getAllSkills());
             model.addAttribute("userRoles", UserRole.values());
             model.addAttribute("userStatuses", UserStatus.values());
@@ -167,8 +162,7 @@ public class AdminUserController {
             e.printStackTrace();
             UserUpdateDTO user = userService.getUserFormById(id);
             model.addAttribute("user", user);
-            Pageable pageable = PageRequest.of(0, 1000);
-            model.addAttribute("positions", positionService.getAllPositions(pageable).getContent());
+            model.addAttribute("positions", positionService.getAllPositions());
             model.addAttribute("skills", skillService.getAllSkills());
             model.addAttribute("userRoles", UserRole.values());
             model.addAttribute("userStatuses", UserStatus.values());
@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.controller;
 
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,15 +18,15 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import vn.sun.membermanagementsystem.config.jwt.JwtAuthenticationFilter;
 import vn.sun.membermanagementsystem.config.jwt.JwtUtils;
+import vn.sun.membermanagementsystem.config.jwt.TokenDenyList;
 import vn.sun.membermanagementsystem.config.security.AuthenticationLoggingHandler;
-import vn.sun.membermanagementsystem.config.services.CustomUserDetailsService;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
 import vn.sun.membermanagementsystem.dto.request.LoginRequest;
 import vn.sun.membermanagementsystem.dto.response.LoginResponse;
 import vn.sun.membermanagementsystem.dto.response.MessageResponse;
-import vn.sun.membermanagementsystem.entities.User;
 
 
 @RestController
@@ -37,7 +38,7 @@ public class AuthUserController {
     
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
     private final AuthenticationLoggingHandler authLoggingHandler;
     
     @Operation(
@@ -83,19 +84,17 @@ public class AuthUserController {
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
             
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
             String jwt = jwtUtils.generateToken(userDetails);
             
-            User user = userDetailsService.getUserByEmail(userDetails.getUsername());
-            
             // Log successful API login
-            authLoggingHandler.logApiLogin(user.getEmail(), request);
+            authLoggingHandler.logApiLogin(userDetails.getUserId(), userDetails.getUsername(), request);
             
             LoginResponse response = LoginResponse.builder()
                 .token(jwt)
-                .email(user.getEmail())
-                .role(user.getRole().toString())
-                .userId(user.getId())
+                .email(userDetails.getUsername())
+                .role(userDetails.getRole().toString())
+                .userId(userDetails.getUserId())
                 .build();
             
             return ResponseEntity.ok(response);
@@ -113,7 +112,7 @@ public class AuthUserController {
     
     @Operation(
         summary = "User logout",
-        description = "Clears the server-side security context. Note: With JWT, the client should also delete the stored token."
+        description = "Revokes the current JWT and clears the server-side security context. The client should also delete the stored token."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -132,7 +131,12 @@ public class AuthUserController {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.isAuthenticated()) {
             String email = auth.getName();
-            authLoggingHandler.logApiLogout(email, request);
+            authLoggingHandler.logApiLogout(CustomUserDetails.userIdOf(auth), email, request);
+        }
+
+        // Tokens are stateless, so the one used for this request stays valid until revoked
+        if (request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            tokenDenyList.revokeToken(claims.getId(), claims.getExpiration());
         }
         
         SecurityContextHolder.clearContext();
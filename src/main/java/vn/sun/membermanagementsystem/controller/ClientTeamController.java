@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamDetailDTO;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
@@ -30,11 +31,27 @@ public class ClientTeamController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean skipCount) {
 
         log.info("Client API: Getting all teams - page: {}, size: {}, sortBy: {}, sortDir: {}, keyword: {}",
                 page, size, sortBy, sortDir, keyword);
 
+        // Passing a cursor (empty for the first page) switches to keyset pagination ordered by name
+        if (cursor != null) {
+            CursorPage<TeamDTO> teamPage = teamService.getTeamsAfter(keyword, cursor, size, skipCount);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("teams", teamPage.getContent());
+            response.put("nextCursor", teamPage.getNextCursor());
+            response.put("hasNext", teamPage.isHasNext());
+            response.put("totalElements", teamPage.getTotalElements());
+            response.put("pageSize", teamPage.getSize());
+
+            return ResponseEntity.ok(response);
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("desc")
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
@@ -69,11 +86,28 @@ public class ClientTeamController {
     public ResponseEntity<Map<String, Object>> getTeamMembers(
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean skipCount) {
 
         log.info("Client API: Getting members for team ID: {}, page: {}, size: {}", id, page, size);
 
         try {
+            // Passing a cursor (empty for the first page) switches to keyset pagination, newest members first
+            if (cursor != null) {
+                CursorPage<TeamDetailDTO.TeamMemberDTO> memberPage =
+                        teamService.getTeamMembersBefore(id, cursor, size, skipCount);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("members", memberPage.getContent());
+                response.put("nextCursor", memberPage.getNextCursor());
+                response.put("hasNext", memberPage.isHasNext());
+                response.put("totalElements", memberPage.getTotalElements());
+                response.put("pageSize", memberPage.getSize());
+
+                return ResponseEntity.ok(response);
+            }
+
             Pageable pageable = PageRequest.of(page, size, Sort.by("joinedAt").descending());
             Page<TeamDetailDTO.TeamMemberDTO> memberPage = teamService.getTeamMembersWithPagination(id, pageable);
 
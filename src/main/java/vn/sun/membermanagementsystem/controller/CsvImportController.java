@@ -1,20 +1,47 @@
 package vn.sun.membermanagementsystem.controller;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import vn.sun.membermanagementsystem.services.csv.impls.PositionCsvImportService;
-import vn.sun.membermanagementsystem.services.csv.impls.SkillCsvImportService;
-import vn.sun.membermanagementsystem.services.csv.impls.TeamCsvImportService;
-import vn.sun.membermanagementsystem.services.csv.impls.UserCsvImportService;
-import vn.sun.membermanagementsystem.services.csv.impls.ProjectCsvImportService;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MultipartFile;
+import vn.sun.membermanagementsystem.dto.response.ImportJobDTO;
+import vn.sun.membermanagementsystem.services.ImportJobService;
+
+@Slf4j
 @Controller
 @RequestMapping("/admin/import")
 @RequiredArgsConstructor
 public class CsvImportController {
-//    private final SkillCsvImportService skillCsvImportService;
-//    private final PositionCsvImportService positionCsvImportService;
-//    private final TeamCsvImportService teamCsvImportService;
-//    private final UserCsvImportService userCsvImportService;
-//    private final ProjectCsvImportService projectCsvImportService;
+
+    private final ImportJobService importJobService;
+
+    @PostMapping("/{entityType}/jobs")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobDTO submitImport(@PathVariable String entityType,
+                                     @RequestParam("file") MultipartFile file,
+                                     @RequestParam(value = "atomic", defaultValue = "true") boolean atomic) {
+        log.info("Submitting {} import job for file: {}", entityType, file.getOriginalFilename());
+        return importJobService.submitImport(entityType, file, atomic);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @ResponseBody
+    public ImportJobDTO getJob(@PathVariable String jobId) {
+        return importJobService.getJob(jobId);
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    @ResponseBody
+    public ImportJobDTO cancelJob(@PathVariable String jobId) {
+        return importJobService.cancelJob(jobId);
+    }
 }
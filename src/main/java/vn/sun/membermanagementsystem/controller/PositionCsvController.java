@@ -92,10 +92,11 @@ public class PositionCsvController {
 
     @PostMapping("/import")
     public String importPositions(@RequestParam("file") MultipartFile file,
+                                  @RequestParam(value = "atomic", defaultValue = "true") boolean atomic,
                                   RedirectAttributes redirectAttributes) {
         log.info("Importing positions from CSV file: {}", file.getOriginalFilename());
 
-        CsvImportResult<Position> result = positionCsvImportService.importFromCsv(file);
+        CsvImportResult<Position> result = positionCsvImportService.importFromCsvStreaming(file, atomic);
 
         if (result.hasErrors()) {
             redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
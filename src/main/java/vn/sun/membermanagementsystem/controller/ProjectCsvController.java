@@ -72,8 +72,9 @@ public class ProjectCsvController {
 
     @PostMapping("/import")
     public String importProjects(@RequestParam("file") MultipartFile file,
+                                 @RequestParam(value = "atomic", defaultValue = "true") boolean atomic,
                                  RedirectAttributes redirectAttributes) {
-        CsvImportResult<ProjectDTO> result = projectCsvImportService.importFromCsv(file);
+        CsvImportResult<ProjectDTO> result = projectCsvImportService.importFromCsvStreaming(file, atomic);
 
         if (result.hasErrors()) {
             redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
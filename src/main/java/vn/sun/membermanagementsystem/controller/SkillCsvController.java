@@ -92,10 +92,11 @@ public class SkillCsvController {
 
     @PostMapping("/import")
     public String importSkills(@RequestParam("file") MultipartFile file,
+                               @RequestParam(value = "atomic", defaultValue = "true") boolean atomic,
                                RedirectAttributes redirectAttributes) {
         log.info("Importing skills from CSV file: {}", file.getOriginalFilename());
 
-        CsvImportResult<Skill> result = skillCsvImportService.importFromCsv(file);
+        CsvImportResult<Skill> result = skillCsvImportService.importFromCsvStreaming(file, atomic);
 
         if (result.hasErrors()) {
             redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
@@ -92,10 +92,11 @@ public class UserCsvController {
 
     @PostMapping("/import")
     public String importUsers(@RequestParam("file") MultipartFile file,
+                              @RequestParam(value = "atomic", defaultValue = "true") boolean atomic,
                               RedirectAttributes redirectAttributes) {
         log.info("Importing users from CSV file: {}", file.getOriginalFilename());
 
-        CsvImportResult<User> result = userCsvImportService.importFromCsv(file);
+        CsvImportResult<User> result = userCsvImportService.importFromCsvStreaming(file, atomic);
 
         if (result.hasErrors()) {
             redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
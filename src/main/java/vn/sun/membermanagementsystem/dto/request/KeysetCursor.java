@@ -0,0 +1,59 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: its sort key and id. Clients get it back as an
+ * opaque URL-safe token and pass it to fetch the rows after it.
+ */
+public record KeysetCursor(String key, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(String key, Long id) {
+        return new KeysetCursor(key, id);
+    }
+
+    public static KeysetCursor of(LocalDateTime key, Long id) {
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    /**
+     * Returns null for a missing or blank token, which means the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The key may itself contain the separator, the id never does
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String value = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
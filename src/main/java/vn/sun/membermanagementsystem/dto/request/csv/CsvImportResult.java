@@ -17,6 +17,8 @@ public class CsvImportResult<T> {
     private int successCount;
     private int errorCount;
     private boolean rolledBack;
+    private boolean errorsTruncated;
+    private boolean cancelled;
     private List<T> importedEntities;
 
     @Builder.Default
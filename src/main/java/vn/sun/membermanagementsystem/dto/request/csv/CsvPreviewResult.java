@@ -21,6 +21,7 @@ public class CsvPreviewResult {
     private int invalidRows;
     private boolean hasErrors;
     private String fileError;
+    private boolean truncated;
 
     @Data
     @Builder
@@ -0,0 +1,35 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMemberAddResultDTO {
+    private int addedCount;
+    private List<MemberOutcome> outcomes;
+
+    public enum Outcome {
+        ADDED,
+        ALREADY_MEMBER,
+        IN_OTHER_TEAM,
+        NOT_FOUND
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberOutcome {
+        private Long userId;
+        private String userName;
+        private Outcome outcome;
+        private String message;
+    }
+}
@@ -0,0 +1,43 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.dto.request.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // Null when the count was skipped
+    private Long totalElements;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only
+     * tells whether there is a next page.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                          Function<E, KeysetCursor> cursorOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
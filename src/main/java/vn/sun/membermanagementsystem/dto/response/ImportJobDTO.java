@@ -0,0 +1,35 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+    private String jobId;
+    private String entityType;
+    private String fileName;
+    private boolean atomic;
+    private ImportJobStatus status;
+    private String phase;
+    private int percent;
+    private int rowsRead;
+    private int successCount;
+    private int errorCount;
+    private boolean rolledBack;
+    private boolean errorsTruncated;
+    private List<CsvImportResult.CsvImportError> errors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
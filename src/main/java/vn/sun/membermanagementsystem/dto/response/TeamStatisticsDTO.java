@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,4 +22,26 @@ public class TeamStatisticsDTO {
     private long activeProjects;
     private long completedProjects;
     private TeamLeaderDTO currentLeader;
+
+    // Used by the statistics query in TeamRepository
+    public TeamStatisticsDTO(Long teamId, String teamName, Long totalMembers, Long activeMembers,
+                             Long totalProjects, Long activeProjects, Long completedProjects,
+                             Long leaderId, String leaderName, String leaderEmail, LocalDateTime leaderStartedAt) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.totalMembers = totalMembers;
+        this.activeMembers = activeMembers;
+        this.inactiveMembers = totalMembers - activeMembers;
+        this.totalProjects = totalProjects;
+        this.activeProjects = activeProjects;
+        this.completedProjects = completedProjects;
+        if (leaderId != null) {
+            this.currentLeader = TeamLeaderDTO.builder()
+                    .userId(leaderId)
+                    .name(leaderName)
+                    .email(leaderEmail)
+                    .startedAt(leaderStartedAt)
+                    .build();
+        }
+    }
 }
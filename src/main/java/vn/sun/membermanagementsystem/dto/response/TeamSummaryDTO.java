@@ -0,0 +1,25 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSummaryDTO {
+
+    private Long teamId;
+    private Long leaderId;
+    private String leaderName;
+    private String leaderEmail;
+    private LocalDateTime leaderStartedAt;
+    private Long activeMembers;
+    private Long totalMembers;
+    private Long activeProjects;
+    private Long totalProjects;
+}
@@ -29,6 +29,14 @@ public class UserListItemDTO {
     private String activeTeam;
     private PositionInfo currentPosition;
 
+    // Row of the list projection query: team and position come from LEFT JOINs and may be null
+    public UserListItemDTO(Long id, String name, String email, LocalDate birthday, UserRole role, UserStatus status,
+                           LocalDateTime createdAt, String activeTeam,
+                           Long positionId, String positionName, String positionAbbreviation) {
+        this(id, name, email, birthday, role, status, createdAt, activeTeam,
+                positionId != null ? new PositionInfo(positionId, positionName, positionAbbreviation) : null);
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.entities.Project;
 import vn.sun.membermanagementsystem.entities.UserSkill;
 import vn.sun.membermanagementsystem.enums.UserRole;
 import vn.sun.membermanagementsystem.enums.UserStatus;
@@ -35,6 +36,15 @@ public class UserProfileDetailDTO {
     private PositionInfo currentPosition;
     private List<SkillInfo> skills;
 
+    // Header row of the detail projection query; projects and skills are loaded separately
+    public UserProfileDetailDTO(Long id, String name, String email, LocalDate birthday, UserRole role,
+                                UserStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                String activeTeam, Long positionId, String positionName, String positionAbbreviation) {
+        this(id, name, email, birthday, role, status, createdAt, updatedAt, activeTeam, List.of(),
+                positionId != null ? new PositionInfo(positionId, positionName, positionAbbreviation) : null,
+                List.of());
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -44,6 +54,10 @@ public class UserProfileDetailDTO {
         private String name;
         private String abbreviation;
         private String status;
+
+        public ProjectInfo(Long id, String name, String abbreviation, Project.ProjectStatus status) {
+            this(id, name, abbreviation, status != null ? status.name() : null);
+        }
     }
 
     @Data
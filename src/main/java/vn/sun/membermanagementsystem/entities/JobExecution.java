@@ -0,0 +1,55 @@
+package vn.sun.membermanagementsystem.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_executions")
+public class JobExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "ENUM('RUNNING', 'COMPLETED')", nullable = false)
+    private Status status = Status.RUNNING;
+
+    @Column(length = 255)
+    private String checkpoint;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED
+    }
+}
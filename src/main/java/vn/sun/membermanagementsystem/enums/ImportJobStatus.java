@@ -0,0 +1,5 @@
+package vn.sun.membermanagementsystem.enums;
+
+public enum ImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+}
@@ -0,0 +1,49 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for activity logs written by the background log writer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityLogBatchRepository {
+
+    private static final String INSERT_ACTIVITY_LOG_SQL =
+            "INSERT INTO activity_logs (action, entity_type, entity_id, description, user_id, ip_address, " +
+                    "user_agent, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ActivityLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ACTIVITY_LOG_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setString(1, log.getAction());
+            ps.setString(2, log.getEntityType());
+            if (log.getEntityId() != null) {
+                ps.setLong(3, log.getEntityId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, log.getDescription());
+            if (log.getUserId() != null) {
+                ps.setLong(5, log.getUserId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, log.getIpAddress());
+            ps.setString(7, log.getUserAgent());
+            ps.setTimestamp(8, Timestamp.valueOf(log.getCreatedAt()));
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +24,29 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
                                   @Param("fromDate") LocalDateTime fromDate,
                                   @Param("toDate") LocalDateTime toDate,
                                   Pageable pageable);
+
+    // Keyset page ordered by (createdAt, id) descending: the logs older than the given one
+    @Query("SELECT a FROM ActivityLog a WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:fromDate IS NULL OR a.createdAt >= :fromDate) AND " +
+           "(:toDate IS NULL OR a.createdAt <= :toDate) AND " +
+           "(:beforeCreatedAt IS NULL OR a.createdAt < :beforeCreatedAt " +
+           "OR (a.createdAt = :beforeCreatedAt AND a.id < :beforeId)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityLog> searchLogsBefore(@Param("entityType") String entityType,
+                                       @Param("fromDate") LocalDateTime fromDate,
+                                       @Param("toDate") LocalDateTime toDate,
+                                       @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                       @Param("beforeId") Long beforeId,
+                                       Limit limit);
+
+    @Query("SELECT COUNT(a) FROM ActivityLog a WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:fromDate IS NULL OR a.createdAt >= :fromDate) AND " +
+           "(:toDate IS NULL OR a.createdAt <= :toDate)")
+    long countLogs(@Param("entityType") String entityType,
+                   @Param("fromDate") LocalDateTime fromDate,
+                   @Param("toDate") LocalDateTime toDate);
     
     @Query("SELECT DISTINCT a.entityType FROM ActivityLog a WHERE a.entityType IS NOT NULL ORDER BY a.entityType")
     List<String> findDistinctEntityTypes();
@@ -0,0 +1,46 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.entities.JobExecution;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JobExecutionRepository extends JpaRepository<JobExecution, Long> {
+
+    Optional<JobExecution> findByJobNameAndRunKey(String jobName, String runKey);
+
+    // Concurrent starts of the same run insert one row; the others are ignored by the unique key
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_executions (job_name, run_key, status, processed_count, started_at, updated_at) " +
+            "VALUES (:jobName, :runKey, 'RUNNING', 0, :now, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName,
+                       @Param("runKey") String runKey,
+                       @Param("now") LocalDateTime now);
+
+    // Takes the lease of a running execution when it is free, expired or already ours. The row lock of
+    // the UPDATE makes this atomic across nodes: at most one of them gets 1 back.
+    @Modifying
+    @Query("UPDATE JobExecution j SET j.leaseOwner = :owner, j.leaseUntil = :leaseUntil, j.updatedAt = :now " +
+            "WHERE j.jobName = :jobName AND j.runKey = :runKey AND j.status = 'RUNNING' " +
+            "AND (j.leaseOwner IS NULL OR j.leaseOwner = :owner OR j.leaseUntil < :now)")
+    int acquireLease(@Param("jobName") String jobName,
+                     @Param("runKey") String runKey,
+                     @Param("owner") String owner,
+                     @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("now") LocalDateTime now);
+
+    // Extends the lease only while we still hold it
+    @Modifying
+    @Query("UPDATE JobExecution j SET j.leaseUntil = :leaseUntil, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = 'RUNNING' AND j.leaseOwner = :owner")
+    int renewLease(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("now") LocalDateTime now);
+}
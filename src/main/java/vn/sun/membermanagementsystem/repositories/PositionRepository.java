@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.Position;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,10 @@ public interface PositionRepository extends JpaRepository<Position, Long> {
     
     @Query("SELECT COUNT(p) > 0 FROM Position p WHERE LOWER(p.abbreviation) = LOWER(:abbreviation) AND p.deletedAt IS NULL AND (:id IS NULL OR p.id != :id)")
     boolean existsByAbbreviationIgnoreCaseAndNotDeleted(@Param("abbreviation") String abbreviation, @Param("id") Long id);
+
+    @Query("SELECT p FROM Position p WHERE LOWER(p.name) IN :names AND p.deletedAt IS NULL")
+    List<Position> findByLowerNamesAndNotDeleted(@Param("names") Collection<String> names);
+
+    @Query("SELECT p FROM Position p WHERE LOWER(p.abbreviation) IN :abbreviations AND p.deletedAt IS NULL")
+    List<Position> findByLowerAbbreviationsAndNotDeleted(@Param("abbreviations") Collection<String> abbreviations);
 }
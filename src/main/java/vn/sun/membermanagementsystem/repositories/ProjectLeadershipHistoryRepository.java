@@ -1,11 +1,15 @@
 package vn.sun.membermanagementsystem.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.Project;
 import vn.sun.membermanagementsystem.entities.ProjectLeadershipHistory;
 import vn.sun.membermanagementsystem.entities.User;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,14 @@ public interface ProjectLeadershipHistoryRepository extends JpaRepository<Projec
     Optional<ProjectLeadershipHistory> findByProjectAndEndedAtIsNull(Project project);
 
     boolean existsByProjectAndLeaderAndEndedAtIsNull(Project project, User leader);
+
+    @Modifying
+    @Query("UPDATE ProjectLeadershipHistory plh SET plh.endedAt = :now " +
+            "WHERE plh.project.id = :projectId AND plh.endedAt IS NULL")
+    int endActiveByProjectId(@Param("projectId") Long projectId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProjectLeadershipHistory plh SET plh.endedAt = :now " +
+            "WHERE plh.leader.id = :leaderId AND plh.endedAt IS NULL")
+    int endActiveByLeaderId(@Param("leaderId") Long leaderId, @Param("now") LocalDateTime now);
 }
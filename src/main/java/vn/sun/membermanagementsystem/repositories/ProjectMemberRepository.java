@@ -3,11 +3,16 @@ package vn.sun.membermanagementsystem.repositories;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.entities.Project;
 import vn.sun.membermanagementsystem.entities.ProjectMember;
 import vn.sun.membermanagementsystem.entities.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +28,27 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByProjectAndUser(Project project, User user);
     Page<ProjectMember> findByProjectId(Long projectId, Pageable pageable);
 
+    @Query("SELECT new vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO$ProjectInfo(" +
+            "p.id, p.name, p.abbreviation, p.status) " +
+            "FROM ProjectMember pm JOIN pm.project p " +
+            "WHERE pm.user.id = :userId AND pm.status = 'ACTIVE' AND pm.leftAt IS NULL AND p.deletedAt IS NULL " +
+            "ORDER BY pm.id")
+    List<UserProfileDetailDTO.ProjectInfo> findActiveProjectInfosByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE ProjectMember pm SET pm.status = :inactive, pm.leftAt = :now " +
+            "WHERE pm.project.id = :projectId AND pm.status = :active")
+    int deactivateByProjectId(@Param("projectId") Long projectId,
+                              @Param("now") LocalDateTime now,
+                              @Param("active") ProjectMember.MemberStatus active,
+                              @Param("inactive") ProjectMember.MemberStatus inactive);
+
+    @Modifying
+    @Query("UPDATE ProjectMember pm SET pm.status = :inactive, pm.leftAt = :now " +
+            "WHERE pm.user.id = :userId AND pm.status = :active")
+    int deactivateByUserId(@Param("userId") Long userId,
+                           @Param("now") LocalDateTime now,
+                           @Param("active") ProjectMember.MemberStatus active,
+                           @Param("inactive") ProjectMember.MemberStatus inactive);
+
 }
\ No newline at end of file
@@ -1,13 +1,102 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import vn.sun.membermanagementsystem.entities.Project;
 import vn.sun.membermanagementsystem.entities.Team;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Page<Project> findByTeam(Team team, Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAll();
+
+    // Dates and stored status of a project whose status no longer matches its dates
+    record StatusRow(Long id, Project.ProjectStatus status, LocalDate startDate, LocalDate endDate) {
+    }
+
+    // Each query below is one date range per target status, served by the (status, date) indexes of
+    // the V4 migration, so it only reads the projects that actually need a new status. They are read
+    // in id order after afterId, a chunk at a time.
+
+    @Query("SELECT new vn.sun.membermanagementsystem.repositories.ProjectRepository$StatusRow(" +
+            "p.id, p.status, p.startDate, p.endDate) FROM Project p " +
+            "WHERE p.status IN :statuses AND p.endDate <= :today " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<StatusRow> findEndedBy(@Param("statuses") Collection<Project.ProjectStatus> statuses,
+                                @Param("today") LocalDate today,
+                                @Param("afterId") Long afterId,
+                                Limit limit);
+
+    @Query("SELECT new vn.sun.membermanagementsystem.repositories.ProjectRepository$StatusRow(" +
+            "p.id, p.status, p.startDate, p.endDate) FROM Project p " +
+            "WHERE p.status IN :statuses AND p.startDate <= :today AND (p.endDate IS NULL OR p.endDate > :today) " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<StatusRow> findRunningOn(@Param("statuses") Collection<Project.ProjectStatus> statuses,
+                                  @Param("today") LocalDate today,
+                                  @Param("afterId") Long afterId,
+                                  Limit limit);
+
+    @Query("SELECT new vn.sun.membermanagementsystem.repositories.ProjectRepository$StatusRow(" +
+            "p.id, p.status, p.startDate, p.endDate) FROM Project p " +
+            "WHERE p.status IN :statuses AND p.startDate > :today AND (p.endDate IS NULL OR p.endDate > :today) " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<StatusRow> findNotStartedBy(@Param("statuses") Collection<Project.ProjectStatus> statuses,
+                                     @Param("today") LocalDate today,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    // Projects with a start or end date in (today, until], the transitions due within the timer horizon
+    @Query("SELECT new vn.sun.membermanagementsystem.repositories.ProjectRepository$StatusRow(" +
+            "p.id, p.status, p.startDate, p.endDate) FROM Project p " +
+            "WHERE p.status IN :statuses AND (" +
+            "(p.startDate > :today AND p.startDate <= :until) OR (p.endDate > :today AND p.endDate <= :until))")
+    List<StatusRow> findWithDatesBetween(@Param("statuses") Collection<Project.ProjectStatus> statuses,
+                                         @Param("today") LocalDate today,
+                                         @Param("until") LocalDate until);
+
+    // Locks the rows so nodes firing the same transition apply and report it once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids AND p.status <> :cancelled")
+    List<Project> findAllForStatusRefresh(@Param("ids") Collection<Long> ids,
+                                          @Param("cancelled") Project.ProjectStatus cancelled);
+
+    // The status is derived again from the row's current dates, so a concurrent date edit between
+    // finding the rows and updating them still ends with the right status. Cancelled projects are kept.
+    @Modifying
+    @Query("UPDATE Project p SET p.status = CASE " +
+            "WHEN p.endDate IS NOT NULL AND p.endDate <= :today THEN :completed " +
+            "WHEN p.startDate <= :today THEN :ongoing " +
+            "ELSE :planning END, " +
+            "p.updatedAt = :now " +
+            "WHERE p.id IN :ids AND p.status <> :cancelled")
+    int refreshStatuses(@Param("ids") Collection<Long> ids,
+                        @Param("today") LocalDate today,
+                        @Param("now") LocalDateTime now,
+                        @Param("completed") Project.ProjectStatus completed,
+                        @Param("ongoing") Project.ProjectStatus ongoing,
+                        @Param("planning") Project.ProjectStatus planning,
+                        @Param("cancelled") Project.ProjectStatus cancelled);
+
 }
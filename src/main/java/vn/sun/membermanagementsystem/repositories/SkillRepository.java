@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.Skill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,9 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     
     @Query("SELECT s FROM Skill s WHERE LOWER(s.name) = LOWER(:name) AND s.deletedAt IS NULL")
     Optional<Skill> findByNameIgnoreCaseAndNotDeleted(@Param("name") String name);
+
+    @Query("SELECT s FROM Skill s WHERE LOWER(s.name) IN :names AND s.deletedAt IS NULL")
+    List<Skill> findByLowerNamesAndNotDeleted(@Param("names") Collection<String> names);
     
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END " +
            "FROM Skill s WHERE LOWER(s.name) = LOWER(:name) AND s.deletedAt IS NULL")
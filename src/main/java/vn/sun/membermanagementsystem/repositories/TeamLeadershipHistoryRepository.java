@@ -1,11 +1,14 @@
 package vn.sun.membermanagementsystem.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.TeamLeadershipHistory;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,10 +27,26 @@ public interface TeamLeadershipHistoryRepository extends JpaRepository<TeamLeade
                         "ORDER BY tlh.startedAt DESC")
         List<TeamLeadershipHistory> findByTeamIdOrderByStartedAtDesc(@Param("teamId") Long teamId);
 
+        @Query("SELECT tlh FROM TeamLeadershipHistory tlh " +
+                        "JOIN FETCH tlh.leader " +
+                        "WHERE tlh.team.id IN :teamIds " +
+                        "AND tlh.endedAt IS NULL")
+        List<TeamLeadershipHistory> findActiveLeadersByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
         @Query("SELECT tlh FROM TeamLeadershipHistory tlh " +
                         "WHERE tlh.leader.id = :leaderId " +
                         "AND tlh.team.id = :teamId " +
                         "AND tlh.endedAt IS NULL")
         Optional<TeamLeadershipHistory> findActiveByLeaderIdAndTeamId(@Param("leaderId") Long leaderId,
                         @Param("teamId") Long teamId);
+
+        @Modifying
+        @Query("UPDATE TeamLeadershipHistory tlh SET tlh.endedAt = :now " +
+                        "WHERE tlh.team.id = :teamId AND tlh.endedAt IS NULL")
+        int endActiveByTeamId(@Param("teamId") Long teamId, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE TeamLeadershipHistory tlh SET tlh.endedAt = :now " +
+                        "WHERE tlh.leader.id = :leaderId AND tlh.endedAt IS NULL")
+        int endActiveByLeaderId(@Param("leaderId") Long leaderId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,36 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for team memberships. TeamMember ids are generated by the database,
+ * which keeps Hibernate from batching the inserts itself.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamMemberBatchRepository {
+
+    private static final String INSERT_ACTIVE_MEMBER_SQL =
+            "INSERT INTO team_members (user_id, team_id, status, joined_at) VALUES (?, ?, 'ACTIVE', ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertActiveMembers(Long teamId, List<Long> userIds, LocalDateTime joinedAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp joined = Timestamp.valueOf(joinedAt);
+        jdbcTemplate.batchUpdate(INSERT_ACTIVE_MEMBER_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, teamId);
+            ps.setTimestamp(3, joined);
+        });
+    }
+}
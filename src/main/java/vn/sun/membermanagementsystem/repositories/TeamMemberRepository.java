@@ -1,8 +1,10 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,6 +13,8 @@ import vn.sun.membermanagementsystem.entities.TeamMember;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.enums.MembershipStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,6 +36,21 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
                         "AND t.deletedAt IS NULL")
         List<TeamMember> findActiveTeamsByUserIds(@Param("userIds") List<Long> userIds);
 
+        // Closes the ACTIVE rows left for the given users, e.g. in a deleted team, so a new active
+        // membership does not hit the one-active-row-per-user unique index
+        @Modifying
+        @Query("UPDATE TeamMember tm SET tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.INACTIVE, " +
+                        "tm.leftAt = COALESCE(tm.leftAt, :now) " +
+                        "WHERE tm.user.id IN :userIds " +
+                        "AND tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.ACTIVE")
+        int closeActiveMemberships(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE TeamMember tm SET tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.INACTIVE, " +
+                        "tm.leftAt = :now " +
+                        "WHERE tm.team.id = :teamId AND tm.leftAt IS NULL")
+        int closeTeamMemberships(@Param("teamId") Long teamId, @Param("now") LocalDateTime now);
+
         boolean existsByUserAndTeamAndStatus(User user, Team team, MembershipStatus status);
 
         @Query("SELECT tm.user FROM TeamMember tm " +
@@ -54,4 +73,24 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
                         "AND tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.ACTIVE " +
                         "AND tm.leftAt IS NULL")
         Page<TeamMember> findActiveTeamMembersByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+        // Keyset page ordered by (joinedAt, id) descending: the members who joined before the given one
+        @Query("SELECT tm FROM TeamMember tm " +
+                        "JOIN FETCH tm.user u " +
+                        "WHERE tm.team.id = :teamId " +
+                        "AND tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.ACTIVE " +
+                        "AND tm.leftAt IS NULL " +
+                        "AND (:beforeJoinedAt IS NULL OR tm.joinedAt < :beforeJoinedAt " +
+                        "OR (tm.joinedAt = :beforeJoinedAt AND tm.id < :beforeId)) " +
+                        "ORDER BY tm.joinedAt DESC, tm.id DESC")
+        List<TeamMember> findActiveTeamMembersByTeamIdBefore(@Param("teamId") Long teamId,
+                        @Param("beforeJoinedAt") LocalDateTime beforeJoinedAt,
+                        @Param("beforeId") Long beforeId,
+                        Limit limit);
+
+        @Query("SELECT COUNT(tm) FROM TeamMember tm " +
+                        "WHERE tm.team.id = :teamId " +
+                        "AND tm.status = vn.sun.membermanagementsystem.enums.MembershipStatus.ACTIVE " +
+                        "AND tm.leftAt IS NULL")
+        long countActiveTeamMembersByTeamId(@Param("teamId") Long teamId);
 }
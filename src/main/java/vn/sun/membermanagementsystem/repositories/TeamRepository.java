@@ -1,20 +1,45 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import vn.sun.membermanagementsystem.entities.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.Team;
+import vn.sun.membermanagementsystem.dto.response.TeamStatisticsDTO;
+import vn.sun.membermanagementsystem.dto.response.TeamSummaryDTO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
+        // Counts are scalar subqueries, like the summary query below, so members and projects are
+        // never joined onto each other; only the single current leader row is joined
+        String TEAM_STATISTICS_SELECT = "SELECT new vn.sun.membermanagementsystem.dto.response.TeamStatisticsDTO(" +
+                        "t.id, t.name, " +
+                        "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team = t AND tm.leftAt IS NULL), " +
+                        "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team = t " +
+                        "AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL), " +
+                        "(SELECT COUNT(p) FROM Project p WHERE p.team = t AND p.deletedAt IS NULL), " +
+                        "(SELECT COUNT(p) FROM Project p WHERE p.team = t " +
+                        "AND p.status NOT IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL), " +
+                        "(SELECT COUNT(p) FROM Project p WHERE p.team = t " +
+                        "AND p.status IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL), " +
+                        "l.id, l.name, l.email, lh.startedAt) " +
+                        "FROM Team t " +
+                        "LEFT JOIN t.leadershipHistory lh ON lh.endedAt IS NULL " +
+                        "LEFT JOIN lh.leader l ";
+
         @Query("SELECT COUNT(t) > 0 FROM Team t WHERE t.name = :name AND t.deletedAt IS NULL")
         boolean existsByNameAndNotDeleted(@Param("name") String name);
 
@@ -27,6 +52,9 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
         @Query("SELECT t FROM Team t WHERE t.name = :name AND t.deletedAt IS NULL")
         Optional<Team> findByNameAndNotDeleted(@Param("name") String name);
 
+        @Query("SELECT t FROM Team t WHERE t.name IN :names AND t.deletedAt IS NULL")
+        List<Team> findAllByNameInAndNotDeleted(@Param("names") Collection<String> names);
+
         @Query("SELECT DISTINCT t FROM Team t " +
                         "LEFT JOIN FETCH t.leadershipHistory lh " +
                         "LEFT JOIN FETCH lh.leader " +
@@ -36,6 +64,13 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
         @Query("SELECT t FROM Team t WHERE t.deletedAt IS NULL ORDER BY t.name")
         List<Team> findAllNotDeleted();
 
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT t FROM Team t WHERE t.deletedAt IS NULL ORDER BY t.name")
+        Stream<Team> streamAllNotDeleted();
+
         @Query("SELECT t FROM Team t WHERE t.deletedAt IS NULL")
         Page<Team> findAllNotDeleted(Pageable pageable);
 
@@ -43,22 +78,49 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
                         "AND (:keyword IS NULL OR :keyword = '' OR LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
         Page<Team> findAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+        // Keyset page ordered by (name, id): the rows after the given team, without OFFSET
+        @Query("SELECT t FROM Team t WHERE t.deletedAt IS NULL " +
+                        "AND (:keyword IS NULL OR :keyword = '' OR LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+                        "AND (:afterName IS NULL OR t.name > :afterName OR (t.name = :afterName AND t.id > :afterId)) " +
+                        "ORDER BY t.name, t.id")
+        List<Team> findAllByKeywordAfter(@Param("keyword") String keyword,
+                        @Param("afterName") String afterName,
+                        @Param("afterId") Long afterId,
+                        Limit limit);
+
+        @Query("SELECT COUNT(t) FROM Team t WHERE t.deletedAt IS NULL " +
+                        "AND (:keyword IS NULL OR :keyword = '' OR LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+        long countByKeyword(@Param("keyword") String keyword);
+
+        @Query("SELECT new vn.sun.membermanagementsystem.dto.response.TeamSummaryDTO(" +
+                        "t.id, l.id, l.name, l.email, lh.startedAt, " +
+                        "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team = t " +
+                        "AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL), " +
+                        "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team = t AND tm.leftAt IS NULL), " +
+                        "(SELECT COUNT(p) FROM Project p WHERE p.team = t " +
+                        "AND p.status NOT IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL), " +
+                        "(SELECT COUNT(p) FROM Project p WHERE p.team = t AND p.deletedAt IS NULL)) " +
+                        "FROM Team t " +
+                        "LEFT JOIN t.leadershipHistory lh ON lh.endedAt IS NULL " +
+                        "LEFT JOIN lh.leader l " +
+                        "WHERE t.id IN :teamIds")
+        List<TeamSummaryDTO> findSummariesByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
         @Query("SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team.id = :teamId " +
                         "AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL")
         long countActiveMembers(@Param("teamId") Long teamId);
 
+        @Query("SELECT tm.team.id, COUNT(tm) FROM TeamMember tm WHERE tm.team.id IN :teamIds " +
+                        "AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL GROUP BY tm.team.id")
+        List<Object[]> countActiveMembersByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
         @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.team.id = :teamId " +
                         "AND p.status NOT IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL")
         boolean hasActiveProjects(@Param("teamId") Long teamId);
 
-        @Query("SELECT COUNT(p) FROM Project p WHERE p.team.id = :teamId AND p.deletedAt IS NULL")
-        long countAllProjects(@Param("teamId") Long teamId);
-
-        @Query("SELECT COUNT(p) FROM Project p WHERE p.team.id = :teamId " +
-                        "AND p.status NOT IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL")
-        long countActiveProjects(@Param("teamId") Long teamId);
+        @Query(TEAM_STATISTICS_SELECT + "WHERE t.id = :teamId AND t.deletedAt IS NULL")
+        Optional<TeamStatisticsDTO> findStatisticsByTeamId(@Param("teamId") Long teamId);
 
-        @Query("SELECT COUNT(p) FROM Project p WHERE p.team.id = :teamId " +
-                        "AND p.status IN ('COMPLETED', 'CANCELLED') AND p.deletedAt IS NULL")
-        long countCompletedProjects(@Param("teamId") Long teamId);
+        @Query(TEAM_STATISTICS_SELECT + "WHERE t.id IN :teamIds AND t.deletedAt IS NULL")
+        List<TeamStatisticsDTO> findStatisticsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -0,0 +1,100 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC batch inserts for bulk imports. Entities use IDENTITY ids, which makes
+ * Hibernate insert row by row, so large imports write through here instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (name, email, password_hash, birthday, role, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_USER_SKILL_SQL =
+            "INSERT INTO user_skills (user_id, skill_id, level, used_year_number, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the users in one batch and sets the generated id on each of them.
+     */
+    public void insertUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_USER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        User user = users.get(i);
+                        ps.setString(1, user.getName());
+                        ps.setString(2, user.getEmail());
+                        ps.setString(3, user.getPasswordHash());
+                        if (user.getBirthday() != null) {
+                            ps.setDate(4, Date.valueOf(user.getBirthday()));
+                        } else {
+                            ps.setNull(4, Types.DATE);
+                        }
+                        ps.setString(5, user.getRole().name());
+                        ps.setString(6, user.getStatus().name());
+                        ps.setTimestamp(7, Timestamp.valueOf(user.getCreatedAt()));
+                        ps.setTimestamp(8, Timestamp.valueOf(user.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != users.size()) {
+            throw new IllegalStateException(String.format(
+                    "Expected %d generated user ids, got %d", users.size(), keys.size()));
+        }
+        for (int i = 0; i < users.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            users.get(i).setId(id.longValue());
+        }
+    }
+
+    public void insertUserSkills(List<UserSkill> userSkills) {
+        if (userSkills.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER_SKILL_SQL, userSkills, userSkills.size(), (ps, userSkill) -> {
+            ps.setLong(1, userSkill.getUser().getId());
+            ps.setLong(2, userSkill.getSkill().getId());
+            ps.setString(3, userSkill.getLevel().name());
+            ps.setBigDecimal(4, userSkill.getUsedYearNumber());
+            ps.setTimestamp(5, Timestamp.valueOf(userSkill.getCreatedAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(userSkill.getUpdatedAt()));
+        });
+    }
+}
@@ -1,57 +1,79 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.dto.response.UserListItemDTO;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.enums.UserRole;
 import vn.sun.membermanagementsystem.enums.UserStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+        // Filters of the admin user list, shared by the list query and its count query
+        String USER_LIST_FILTER = "WHERE " +
+                        "(:fullTextQuery IS NULL OR function('match_against', u.name, u.email, :fullTextQuery) > 0) AND " +
+                        "(:keyword IS NULL OR " +
+                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:status IS NULL OR u.status = :status) AND " +
+                        "(:role IS NULL OR u.role = :role) AND " +
+                        "(:teamId IS NULL OR EXISTS (SELECT tm FROM TeamMember tm WHERE tm.user = u AND tm.team.id = :teamId AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL)) AND " +
+                        "u.deletedAt IS NULL";
+
         Optional<User> findByEmail(String email);
 
+        List<User> findByEmailIn(Collection<String> emails);
+
         @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
         Optional<User> findByEmailAndNotDeleted(@Param("email") String email);
 
+        @Query("SELECT u FROM User u WHERE u.email IN :emails AND u.deletedAt IS NULL")
+        List<User> findAllByEmailInAndNotDeleted(@Param("emails") Collection<String> emails);
+
         @Query("SELECT u FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
         Optional<User> findByIdAndNotDeleted(Long id);
 
-        @Query("SELECT DISTINCT u FROM User u " +
-                        "LEFT JOIN FETCH u.teamMemberships tm " +
-                        "LEFT JOIN FETCH tm.team " +
-                        "WHERE u.id = :id AND u.deletedAt IS NULL")
-        Optional<User> findByIdWithTeams(@Param("id") Long id);
-
-        @Query("SELECT DISTINCT u FROM User u " +
-                        "LEFT JOIN FETCH u.projectMemberships pm " +
-                        "LEFT JOIN FETCH pm.project " +
-                        "WHERE u.id = :id AND u.deletedAt IS NULL")
-        Optional<User> findByIdWithProjects(@Param("id") Long id);
-
-        @Query("SELECT DISTINCT u FROM User u " +
-                        "LEFT JOIN FETCH u.positionHistories ph " +
-                        "LEFT JOIN FETCH ph.position " +
-                        "WHERE u.id = :id AND u.deletedAt IS NULL")
-        Optional<User> findByIdWithPositionHistories(@Param("id") Long id);
-
-        @Query("SELECT DISTINCT u FROM User u " +
-                        "LEFT JOIN FETCH u.userSkills us " +
-                        "LEFT JOIN FETCH us.skill " +
+        @Query("SELECT u FROM User u WHERE u.id IN :ids AND u.deletedAt IS NULL")
+        List<User> findAllByIdInAndNotDeleted(@Param("ids") Collection<Long> ids);
+
+        // Scalar part of the user detail page: active team and current position come from LEFT JOINs
+        // matching at most one row, like the list query below
+        @Query("SELECT new vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO(" +
+                        "u.id, u.name, u.email, u.birthday, u.role, u.status, u.createdAt, u.updatedAt, t.name, " +
+                        "p.id, p.name, p.abbreviation) " +
+                        "FROM User u " +
+                        "LEFT JOIN TeamMember atm ON atm.user = u AND atm.status = 'ACTIVE' AND atm.leftAt IS NULL " +
+                        "LEFT JOIN Team t ON t.id = atm.team.id AND t.deletedAt IS NULL " +
+                        "LEFT JOIN UserPositionHistory ph ON ph.user = u AND ph.endedAt IS NULL " +
+                        "LEFT JOIN ph.position p " +
                         "WHERE u.id = :id AND u.deletedAt IS NULL")
-        Optional<User> findByIdWithSkills(@Param("id") Long id);
+        Optional<UserProfileDetailDTO> findProfileDetailById(@Param("id") Long id);
 
         @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
         List<User> findAllNotDeleted();
 
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL ORDER BY u.id")
+        Stream<User> streamAllNotDeleted();
+
         @Query("SELECT u FROM User u WHERE u.status = :status AND u.deletedAt IS NULL")
         List<User> findByStatusAndNotDeleted(@Param("status") UserStatus status);
 
@@ -64,30 +86,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
         @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
         Page<User> findAllNotDeleted(Pageable pageable);
 
-        @Query("SELECT u FROM User u " +
-                        "WHERE " +
-                        "(:keyword IS NULL OR :keyword = '' OR " +
-                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-                        "(:status IS NULL OR u.status = :status) AND " +
-                        "(:role IS NULL OR u.role = :role) AND " +
-                        "u.deletedAt IS NULL")
-        Page<User> searchUsers(@Param("keyword") String keyword,
-                        @Param("status") UserStatus status,
-                        @Param("role") UserRole role,
-                        Pageable pageable);
-
-        @Query("SELECT u FROM User u " +
-                        "WHERE " +
-                        "(:keyword IS NULL OR :keyword = '' OR " +
-                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-                        "(:status IS NULL OR u.status = :status) AND " +
-                        "(:role IS NULL OR u.role = :role) AND " +
-                        "(:teamId IS NULL OR EXISTS (SELECT tm FROM TeamMember tm WHERE tm.user = u AND tm.team.id = :teamId AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL)) AND "
-                        +
-                        "u.deletedAt IS NULL")
-        Page<User> searchUsersWithTeam(@Param("keyword") String keyword,
+        // User list rows with active team and current position in one query. Both joins match at most
+        // one row per user (unique active membership / position), so they never multiply the rows.
+        // Keyword search: fullTextQuery uses the ngram FULLTEXT index (V2 migration); keyword is the
+        // LIKE filter for keywords with words shorter than one ngram. Both are ANDed when passed together.
+        @Query(value = "SELECT new vn.sun.membermanagementsystem.dto.response.UserListItemDTO(" +
+                        "u.id, u.name, u.email, u.birthday, u.role, u.status, u.createdAt, t.name, " +
+                        "p.id, p.name, p.abbreviation) " +
+                        "FROM User u " +
+                        "LEFT JOIN TeamMember atm ON atm.user = u AND atm.status = 'ACTIVE' AND atm.leftAt IS NULL " +
+                        "LEFT JOIN Team t ON t.id = atm.team.id AND t.deletedAt IS NULL " +
+                        "LEFT JOIN UserPositionHistory ph ON ph.user = u AND ph.endedAt IS NULL " +
+                        "LEFT JOIN ph.position p " +
+                        USER_LIST_FILTER,
+                        countQuery = "SELECT COUNT(u) FROM User u " + USER_LIST_FILTER)
+        Page<UserListItemDTO> searchUserListItems(@Param("fullTextQuery") String fullTextQuery,
+                        @Param("keyword") String keyword,
                         @Param("status") UserStatus status,
                         @Param("role") UserRole role,
                         @Param("teamId") Long teamId,
@@ -5,8 +5,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.entities.UserSkill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,16 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     
     @Query("SELECT us FROM UserSkill us WHERE us.user.id = :userId")
     List<UserSkill> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT us FROM UserSkill us JOIN FETCH us.skill WHERE us.user.id IN :userIds ORDER BY us.id")
+    List<UserSkill> findByUserIdsWithSkill(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO$SkillInfo(" +
+            "s.id, s.name, us.level, us.usedYearNumber) " +
+            "FROM UserSkill us JOIN us.skill s " +
+            "WHERE us.user.id = :userId AND s.deletedAt IS NULL " +
+            "ORDER BY us.id")
+    List<UserProfileDetailDTO.SkillInfo> findSkillInfosByUserId(@Param("userId") Long userId);
     
     @Query("SELECT us FROM UserSkill us WHERE us.user.id = :userId AND us.skill.id = :skillId")
     Optional<UserSkill> findByUserIdAndSkillId(@Param("userId") Long userId, @Param("skillId") Long skillId);
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import vn.sun.membermanagementsystem.services.ProjectService;
 
@@ -15,12 +14,8 @@ public class ProjectStatusScheduler {
 
     private final ProjectService projectService;
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void scheduleTask() {
-        log.info("Running daily scheduled task...");
-        runUpdate();
-    }
-
+    // Transitions while the app is up are fired by ProjectStatusTimer; this catches up on the ones
+    // missed while it was down
     @EventListener(ApplicationReadyEvent.class)
     public void onStartup() {
         log.info("App started. Running initial project status check...");
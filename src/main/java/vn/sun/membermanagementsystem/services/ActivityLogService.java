@@ -3,6 +3,7 @@ package vn.sun.membermanagementsystem.services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 
 import java.time.LocalDate;
 
@@ -11,6 +12,9 @@ public interface ActivityLogService {
     Page<ActivityLogDTO> getAllLogs(Pageable pageable);
     
     Page<ActivityLogDTO> searchLogs(String entityType, LocalDate fromDate, LocalDate toDate, Pageable pageable);
+
+    CursorPage<ActivityLogDTO> searchLogsBefore(String entityType, LocalDate fromDate, LocalDate toDate,
+                                                String cursor, int size, boolean skipCount);
     
     ActivityLogDTO getLogById(Long id);
     
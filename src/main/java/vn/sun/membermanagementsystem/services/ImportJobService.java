@@ -0,0 +1,13 @@
+package vn.sun.membermanagementsystem.services;
+
+import org.springframework.web.multipart.MultipartFile;
+import vn.sun.membermanagementsystem.dto.response.ImportJobDTO;
+
+public interface ImportJobService {
+
+    ImportJobDTO submitImport(String entityType, MultipartFile file, boolean atomic);
+
+    ImportJobDTO getJob(String jobId);
+
+    ImportJobDTO cancelJob(String jobId);
+}
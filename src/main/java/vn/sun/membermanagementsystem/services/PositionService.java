@@ -6,9 +6,13 @@ import vn.sun.membermanagementsystem.dto.request.CreatePositionRequest;
 import vn.sun.membermanagementsystem.dto.request.UpdatePositionRequest;
 import vn.sun.membermanagementsystem.dto.response.PositionDTO;
 
+import java.util.List;
+
 public interface PositionService {
     
     Page<PositionDTO> getAllPositions(Pageable pageable);
+
+    List<PositionDTO> getAllPositions();
     
     PositionDTO getPositionById(Long id);
     
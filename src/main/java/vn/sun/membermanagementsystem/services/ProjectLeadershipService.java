@@ -5,6 +5,6 @@ import vn.sun.membermanagementsystem.entities.Team;
 
 public interface ProjectLeadershipService {
 
-    void endAllLeadership(Project project);
+    int endAllLeadership(Project project);
     void updateLeader(Project project, Long requestedLeaderId, Team team);
 }
\ No newline at end of file
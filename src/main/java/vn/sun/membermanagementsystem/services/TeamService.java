@@ -2,6 +2,8 @@ package vn.sun.membermanagementsystem.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
 import vn.sun.membermanagementsystem.dto.request.CreateTeamRequest;
 import vn.sun.membermanagementsystem.dto.request.UpdateTeamRequest;
@@ -10,6 +12,7 @@ import vn.sun.membermanagementsystem.dto.response.TeamStatisticsDTO;
 import vn.sun.membermanagementsystem.dto.response.UserSelectionDTO;
 import vn.sun.membermanagementsystem.entities.Team;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,15 +34,21 @@ public interface TeamService {
 
     Page<TeamDTO> getAllTeamsWithPagination(Pageable pageable, String keyword);
 
+    CursorPage<TeamDTO> getTeamsAfter(String keyword, String cursor, int size, boolean skipCount);
+
     TeamStatisticsDTO getTeamStatistics(Long teamId);
 
+    List<TeamStatisticsDTO> getTeamStatistics(Collection<Long> teamIds);
+
     List<UserSelectionDTO> getActiveUsersByTeam(Long teamId);
 
     Page<TeamDetailDTO.TeamMemberDTO> getTeamMembersWithPagination(Long teamId, Pageable pageable);
 
+    CursorPage<TeamDetailDTO.TeamMemberDTO> getTeamMembersBefore(Long teamId, String cursor, int size, boolean skipCount);
+
     void addMemberToTeam(Long teamId, Long userId);
 
-    int addMembersToTeam(Long teamId, List<Long> userIds);
+    BulkMemberAddResultDTO addMembersToTeam(Long teamId, List<Long> userIds);
 
     void removeMemberFromTeam(Long teamId, Long userId);
 }
@@ -0,0 +1,20 @@
+package vn.sun.membermanagementsystem.services.activitylog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of one {@code @LogActivity} call, taken on the request thread and written later by
+ * {@link ActivityLogWriter}. {@code userId} may be null when only the user's email is known;
+ * the writer resolves those for a whole batch at once.
+ */
+public record ActivityLogEvent(
+        String action,
+        String entityType,
+        Long entityId,
+        String description,
+        Long userId,
+        String userEmail,
+        String ipAddress,
+        String userAgent,
+        LocalDateTime createdAt) {
+}
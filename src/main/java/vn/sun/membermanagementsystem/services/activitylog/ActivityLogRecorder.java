@@ -0,0 +1,78 @@
+package vn.sun.membermanagementsystem.services.activitylog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queues an activity log event attributed to the current user and request. Used by the
+ * {@code @LogActivity} aspect and by operations that record one summary event for their whole run.
+ * The user and request are captured right away; within a transaction the event is queued after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityLogRecorder {
+
+    private final ActivityLogWriter activityLogWriter;
+
+    public void record(String action, String entityType, Long entityId, String description) {
+        // The principal carries the user id; the writer falls back to the email for older sessions
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Long currentUserId = null;
+        String currentUserEmail = null;
+        if (auth != null && auth.isAuthenticated()) {
+            currentUserId = CustomUserDetails.userIdOf(auth);
+            currentUserEmail = auth.getName();
+        }
+
+        // Imports run on background threads, outside of any request
+        String ipAddress = null;
+        String userAgent = null;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = request.getHeader("User-Agent");
+        }
+
+        ActivityLogEvent event = new ActivityLogEvent(
+                action,
+                entityType,
+                entityId,
+                description,
+                currentUserId,
+                currentUserEmail,
+                ipAddress,
+                userAgent,
+                LocalDateTime.now());
+
+        // Inside a transaction the event is only queued once it commits, so rolled back work leaves no log
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(event);
+                }
+            });
+        } else {
+            submit(event);
+        }
+    }
+
+    private void submit(ActivityLogEvent event) {
+        activityLogWriter.submit(event);
+        log.info("Activity queued: {}", event);
+    }
+}
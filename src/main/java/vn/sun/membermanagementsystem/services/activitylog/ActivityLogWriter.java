@@ -0,0 +1,300 @@
+package vn.sun.membermanagementsystem.services.activitylog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.repositories.ActivityLogBatchRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Writes activity logs off the request thread. Events go onto a bounded queue and a single
+ * background thread inserts them in JDBC batches, when a batch is full or the flush interval
+ * has passed. When the queue is full the configured {@link OverflowPolicy} applies.
+ * On shutdown the queue is drained before the application context closes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityLogWriter {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK,
+        SPILL
+    }
+
+    private static final String SPILL_FILE = "activity-log-spill.jsonl";
+    private static final String REPLAY_FILE = "activity-log-replay.jsonl";
+
+    private final ActivityLogBatchRepository activityLogBatchRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${activity-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${activity-log.batch-size:200}")
+    private int batchSize;
+
+    @Value("${activity-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${activity-log.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${activity-log.block-timeout-ms:200}")
+    private long blockTimeoutMs;
+
+    @Value("${activity-log.spill-dir:${java.io.tmpdir}/member-management-activity-logs}")
+    private String spillDir;
+
+    @Value("${activity-log.shutdown-timeout-seconds:10}")
+    private long shutdownTimeoutSeconds;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object spillLock = new Object();
+
+    private BlockingQueue<ActivityLogEvent> queue;
+    private Path spillPath;
+    private Path replayPath;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() throws IOException {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Path dir = Files.createDirectories(Path.of(spillDir));
+        spillPath = dir.resolve(SPILL_FILE);
+        replayPath = dir.resolve(REPLAY_FILE);
+
+        running = true;
+        worker = Thread.ofPlatform().name("activity-log-writer").daemon(true).start(this::runWriter);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+
+        if (worker.isAlive()) {
+            List<ActivityLogEvent> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            log.warn("Activity log writer did not drain within {} seconds, {} event(s) left",
+                    shutdownTimeoutSeconds, remaining.size());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(remaining);
+            }
+        }
+    }
+
+    public void submit(ActivityLogEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(1);
+            }
+            case SPILL -> spill(List.of(event));
+            default -> drop(1);
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        replaySpilled();
+
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        long deadline = System.nanoTime() + intervalNanos;
+        List<ActivityLogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long wait = Math.max(0, deadline - System.nanoTime());
+                ActivityLogEvent event = queue.poll(wait, TimeUnit.NANOSECONDS);
+                if (event != null) {
+                    batch.add(event);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Nothing interrupts this thread on purpose; keep draining until shutdown
+            }
+
+            if (batch.size() >= batchSize || System.nanoTime() >= deadline) {
+                flush(batch);
+                if (queue.isEmpty()) {
+                    replaySpilled();
+                }
+                deadline = System.nanoTime() + intervalNanos;
+            }
+        }
+
+        flush(batch);
+    }
+
+    private boolean flush(List<ActivityLogEvent> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            activityLogBatchRepository.insertAll(toActivityLogs(batch));
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to write {} activity log(s): {}", batch.size(), e.getMessage());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                drop(batch.size());
+            }
+            return false;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private List<ActivityLog> toActivityLogs(List<ActivityLogEvent> events) {
+        // Users known only by email are resolved for the whole batch in one query
+        Set<String> emails = events.stream()
+                .filter(e -> e.userId() == null && e.userEmail() != null)
+                .map(ActivityLogEvent::userEmail)
+                .collect(Collectors.toSet());
+        Map<String, Long> userIds = emails.isEmpty() ? Map.of() : userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, User::getId, (first, second) -> first));
+
+        return events.stream()
+                .map(e -> ActivityLog.builder()
+                        .action(e.action())
+                        .entityType(e.entityType())
+                        .entityId(e.entityId())
+                        .description(e.description())
+                        .userId(e.userId() != null || e.userEmail() == null ? e.userId() : userIds.get(e.userEmail()))
+                        .ipAddress(e.ipAddress())
+                        .userAgent(e.userAgent())
+                        .createdAt(e.createdAt())
+                        .build())
+                .toList();
+    }
+
+    private void drop(int count) {
+        long dropped = droppedCount.addAndGet(count);
+        if (dropped == count || dropped / 1000 != (dropped - count) / 1000) {
+            log.warn("Activity log events dropped: {} so far", dropped);
+        }
+    }
+
+    private void spill(List<ActivityLogEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ActivityLogEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                log.error("Failed to spill {} activity log(s) to {}: {}", events.size(), spillPath, e.getMessage());
+                drop(events.size());
+            }
+        }
+    }
+
+    // Runs on the writer thread only. Events spilled while a replay is in progress go to a new spill file.
+    private void replaySpilled() {
+        synchronized (spillLock) {
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(spillPath)) {
+                    return;
+                }
+                try {
+                    Files.move(spillPath, replayPath);
+                } catch (IOException e) {
+                    log.error("Failed to pick up spilled activity logs from {}: {}", spillPath, e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        int replayed = 0;
+        boolean writable = true;
+        List<ActivityLogEvent> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, ActivityLogEvent.class));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable spilled activity log: {}", e.getMessage());
+                    continue;
+                }
+
+                if (batch.size() >= batchSize) {
+                    replayed += batch.size();
+                    writable = writeReplayed(batch, writable);
+                }
+            }
+            replayed += batch.size();
+            writeReplayed(batch, writable);
+
+            Files.delete(replayPath);
+            log.info("Replayed {} spilled activity log(s)", replayed);
+        } catch (IOException e) {
+            log.error("Failed to replay spilled activity logs from {}: {}", replayPath, e.getMessage());
+        }
+    }
+
+    // Once a write fails, the rest of the replay goes straight back to the spill file
+    private boolean writeReplayed(List<ActivityLogEvent> batch, boolean writable) {
+        if (writable) {
+            return flush(batch);
+        }
+        spill(batch);
+        batch.clear();
+        return false;
+    }
+}
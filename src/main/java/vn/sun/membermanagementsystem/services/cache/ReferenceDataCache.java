@@ -0,0 +1,116 @@
+package vn.sun.membermanagementsystem.services.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache for small, rarely changing reference lists (skills, positions, teams) used to
+ * fill form dropdowns. Each region holds one immutable snapshot that is loaded on first read and
+ * dropped by {@link #invalidate(Region)} from the services that write the underlying table.
+ * Snapshots are shared between requests, so callers must not modify the returned DTOs.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    public enum Region {
+        SKILLS,
+        POSITIONS,
+        TEAMS
+    }
+
+    public record Stats(long hits, long misses, int size) {
+    }
+
+    private final Map<Region, Slot> slots = new EnumMap<>(Region.class);
+
+    public ReferenceDataCache() {
+        for (Region region : Region.values()) {
+            slots.put(region, new Slot());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Region region, Supplier<List<T>> loader) {
+        Slot slot = slots.get(region);
+        Snapshot snapshot = slot.snapshot;
+        long version = slot.version.get();
+        if (snapshot != null && snapshot.version == version) {
+            slot.hits.incrementAndGet();
+            return (List<T>) snapshot.values;
+        }
+
+        slot.misses.incrementAndGet();
+        List<T> values = List.copyOf(loader.get());
+
+        // An invalidation during the load means the result may already be stale; serve it but don't keep it
+        if (slot.version.get() == version) {
+            slot.snapshot = new Snapshot(version, values);
+        }
+        log.debug("Loaded {} reference data: {} entries", region, values.size());
+        return values;
+    }
+
+    /**
+     * Drops the snapshot now and, inside a transaction, once more after it completes so a read
+     * racing with the write cannot keep the old rows. Repeated calls in one transaction register
+     * a single callback.
+     */
+    public void invalidate(Region region) {
+        Slot slot = slots.get(region);
+        slot.invalidate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(slot)) {
+            TransactionSynchronizationManager.bindResource(slot, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(slot);
+                    slot.invalidate();
+                }
+            });
+        }
+    }
+
+    public Map<Region, Stats> getStats() {
+        Map<Region, Stats> stats = new EnumMap<>(Region.class);
+        slots.forEach((region, slot) -> {
+            Snapshot snapshot = slot.snapshot;
+            stats.put(region, new Stats(slot.hits.get(), slot.misses.get(),
+                    snapshot != null ? snapshot.values.size() : 0));
+        });
+        return stats;
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        getStats().forEach((region, stats) -> log.info("Reference data cache {}: {} hit(s), {} miss(es), {} entries",
+                region, stats.hits(), stats.misses(), stats.size()));
+    }
+
+    private static class Slot {
+        final AtomicLong version = new AtomicLong();
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        volatile Snapshot snapshot;
+
+        void invalidate() {
+            version.incrementAndGet();
+            snapshot = null;
+        }
+    }
+
+    private record Snapshot(long version, List<?> values) {
+    }
+}
@@ -0,0 +1,77 @@
+package vn.sun.membermanagementsystem.services.cascade;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.entities.Project;
+import vn.sun.membermanagementsystem.entities.ProjectMember;
+import vn.sun.membermanagementsystem.repositories.ProjectLeadershipHistoryRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectMemberRepository;
+import vn.sun.membermanagementsystem.repositories.TeamLeadershipHistoryRepository;
+import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
+import vn.sun.membermanagementsystem.services.ProjectLeadershipService;
+import vn.sun.membermanagementsystem.services.ProjectMemberService;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogRecorder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ends the memberships and leaderships of a team, project or user being soft-deleted. Each table
+ * is updated with one bulk UPDATE, so the number of statements does not grow with the number of
+ * members, and the cascade is recorded as one activity log event carrying the counts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteCascade {
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamLeadershipHistoryRepository teamLeadershipHistoryRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectLeadershipHistoryRepository projectLeadershipHistoryRepository;
+    private final ProjectMemberService projectMemberService;
+    private final ProjectLeadershipService projectLeadershipService;
+    private final ActivityLogRecorder activityLogRecorder;
+
+    public record Result(int memberships, int leaderships) {
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Result deleteTeam(Long teamId) {
+        LocalDateTime now = LocalDateTime.now();
+        Result result = new Result(
+                teamMemberRepository.closeTeamMemberships(teamId, now),
+                teamLeadershipHistoryRepository.endActiveByTeamId(teamId, now));
+        return recorded("DELETE_TEAM", "TEAM", teamId, "Delete team", result);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Result cancelProject(Project project) {
+        Result result = new Result(
+                projectMemberService.removeAllMembers(project),
+                projectLeadershipService.endAllLeadership(project));
+        return recorded("CANCEL_PROJECT", "PROJECT", project.getId(), "Cancel project and deactivate members", result);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Result deleteUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        int memberships = teamMemberRepository.closeActiveMemberships(List.of(userId), now)
+                + projectMemberRepository.deactivateByUserId(userId, now,
+                        ProjectMember.MemberStatus.ACTIVE, ProjectMember.MemberStatus.INACTIVE);
+        int leaderships = teamLeadershipHistoryRepository.endActiveByLeaderId(userId, now)
+                + projectLeadershipHistoryRepository.endActiveByLeaderId(userId, now);
+        return recorded("DELETE_USER", "USER", userId, "Delete user", new Result(memberships, leaderships));
+    }
+
+    private Result recorded(String action, String entityType, Long entityId, String description, Result result) {
+        log.info("{} {}: ended {} membership(s) and {} leadership(s)",
+                action, entityId, result.memberships(), result.leaderships());
+        activityLogRecorder.record(action, entityType, entityId, String.format(
+                "%s - ended %d membership(s) and %d leadership(s)",
+                description, result.memberships(), result.leaderships()));
+        return result;
+    }
+}
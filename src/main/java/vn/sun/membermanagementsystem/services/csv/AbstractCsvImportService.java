@@ -2,21 +2,54 @@ package vn.sun.membermanagementsystem.services.csv;
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.apache.commons.io.input.BOMInputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.web.multipart.MultipartFile;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvPreviewResult;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public abstract class AbstractCsvImportService<T> implements CsvImportService<T> {
 
     protected static final int MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    protected static final long MAX_STREAMING_FILE_SIZE = 100L * 1024 * 1024; // 100MB
+
+    // Rows read, validated and committed together in streaming mode
+    protected static final int CHUNK_SIZE = 500;
+
+    // Upper bound of row errors / preview rows kept in memory, counters stay exact
+    protected static final int MAX_REPORTED_ERRORS = 1000;
+    protected static final int MAX_PREVIEW_ROWS = 1000;
+
+    // Batches smaller than this are validated on the calling thread
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 64;
+    private static final int VALIDATION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public CsvPreviewResult previewCsv(MultipartFile file) {
@@ -31,19 +64,15 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
             return preview;
         }
 
-        try (CSVReader reader = new CSVReader(
-                new InputStreamReader(new BOMInputStream(file.getInputStream()), StandardCharsets.UTF_8))) {
-
-            List<String[]> allRows = reader.readAll();
+        try (CSVReader reader = openReader(file, null)) {
 
-            if (allRows.isEmpty()) {
+            // Get headers
+            String[] headers = reader.readNext();
+            if (headers == null) {
                 preview.setFileError("CSV file is empty");
                 preview.setHasErrors(true);
                 return preview;
             }
-
-            // Get headers
-            String[] headers = allRows.get(0);
             preview.setHeaders(headers);
 
             // Validate headers
@@ -54,43 +83,53 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
                 return preview;
             }
 
+            int totalCount = 0;
             int validCount = 0;
             int invalidCount = 0;
-
-            // Process each row for preview (skip header)
-            for (int i = 1; i < allRows.size(); i++) {
-                String[] row = allRows.get(i);
-                int rowNumber = i + 1;
-
-                // Skip empty rows
-                if (isEmptyRow(row)) {
-                    continue;
-                }
-
-                CsvPreviewResult.CsvRowPreview rowPreview = CsvPreviewResult.CsvRowPreview.builder()
-                        .rowNumber(rowNumber)
-                        .data(row)
-                        .valid(true)
-                        .errors(new ArrayList<>())
-                        .build();
-
-                // Validate row
-                List<String> errors = validateRowForPreview(row, rowNumber);
-                if (!errors.isEmpty()) {
-                    rowPreview.setValid(false);
-                    rowPreview.setErrors(errors);
-                    invalidCount++;
-                } else {
-                    validCount++;
+            CsvLookupContext lookups = new CsvLookupContext();
+
+            // Process each row for preview, only a bounded window of rows is kept for display
+            List<RowData> chunk;
+            int rowNumber = 1;
+            while (!(chunk = readChunk(reader, rowNumber, CHUNK_SIZE)).isEmpty()) {
+                rowNumber = chunk.get(chunk.size() - 1).rowNumber();
+                List<RowData> rows = nonEmptyRows(chunk);
+                prepareLookups(rows, lookups);
+
+                // Validate rows, results come back in row order
+                List<List<String>> rowErrors = mapInParallel(rows,
+                        rowData -> validateRowForPreview(rowData.data(), rowData.rowNumber(), lookups),
+                        (rowData, e) -> List.of("Validation failed: " + e.getMessage()));
+
+                for (int i = 0; i < rows.size(); i++) {
+                    RowData rowData = rows.get(i);
+                    List<String> errors = rowErrors.get(i);
+                    totalCount++;
+
+                    boolean valid = errors.isEmpty();
+                    if (valid) {
+                        validCount++;
+                    } else {
+                        invalidCount++;
+                    }
+
+                    if (preview.getRows().size() < MAX_PREVIEW_ROWS
+                            || (!valid && invalidCount <= MAX_REPORTED_ERRORS)) {
+                        preview.getRows().add(CsvPreviewResult.CsvRowPreview.builder()
+                                .rowNumber(rowData.rowNumber())
+                                .data(rowData.data())
+                                .valid(valid)
+                                .errors(valid ? new ArrayList<>() : errors)
+                                .build());
+                    }
                 }
-
-                preview.getRows().add(rowPreview);
             }
 
-            preview.setTotalRows(preview.getRows().size());
+            preview.setTotalRows(totalCount);
             preview.setValidRows(validCount);
             preview.setInvalidRows(invalidCount);
             preview.setHasErrors(invalidCount > 0);
+            preview.setTruncated(preview.getRows().size() < totalCount);
 
         } catch (IOException e) {
             preview.setFileError("Error reading CSV file: " + e.getMessage());
@@ -103,104 +142,376 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
         return preview;
     }
 
-    protected abstract List<String> validateRowForPreview(String[] data, int rowNumber);
+    protected abstract List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups);
 
+    /**
+     * Fills the lookup dictionaries for a batch of non-empty rows before they are validated or
+     * processed. Implementations should issue at most one query per dictionary and batch.
+     */
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+    }
+
+    @Override
+    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<T> result) {
+        CsvLookupContext lookups = new CsvLookupContext();
+        prepareLookups(List.of(new RowData(rowNumber, data)), lookups);
+        return validateRow(data, rowNumber, result, lookups);
+    }
+
+    protected abstract boolean validateRow(String[] data, int rowNumber, CsvImportResult<T> result,
+                                           CsvLookupContext lookups);
+
+    /**
+     * All-or-nothing import. The file is streamed twice (validate, then write) instead of
+     * being loaded with readAll(); the write pass runs in a single transaction.
+     */
     @Override
     public CsvImportResult<T> importFromCsv(MultipartFile file) {
+        return runImport(file, true, true, MAX_FILE_SIZE, new CsvImportProgress());
+    }
+
+    /**
+     * Streaming import with bounded memory: rows are read and written in chunks of
+     * {@link #CHUNK_SIZE} and imported entities are not retained in the result.
+     * When {@code atomic} is false every chunk is committed in its own transaction and
+     * failing rows are reported without undoing the rows imported before them.
+     */
+    @Override
+    public CsvImportResult<T> importFromCsvStreaming(MultipartFile file, boolean atomic) {
+        return importFromCsvStreaming(file, atomic, new CsvImportProgress());
+    }
+
+    /**
+     * Same as {@link #importFromCsvStreaming(MultipartFile, boolean)}, reporting progress after
+     * every chunk. A cancellation request stops the import at the next chunk boundary: an atomic
+     * import is rolled back, a chunked one keeps the chunks already committed.
+     */
+    @Override
+    public CsvImportResult<T> importFromCsvStreaming(MultipartFile file, boolean atomic, CsvImportProgress progress) {
+        return runImport(file, atomic, false, MAX_STREAMING_FILE_SIZE, progress);
+    }
+
+    private CsvImportResult<T> runImport(MultipartFile file, boolean atomic, boolean retainEntities,
+                                         long maxFileSize, CsvImportProgress progress) {
         CsvImportResult<T> result = new CsvImportResult<>();
         result.setImportedEntities(new ArrayList<>());
         result.setErrors(new ArrayList<>());
 
         // Validate file
-        if (!validateFile(file, result)) {
+        if (!validateFile(file, result, maxFileSize)) {
+            progress.finish(result);
             return result;
         }
 
-        try (CSVReader reader = new CSVReader(
-                new InputStreamReader(new BOMInputStream(file.getInputStream()), StandardCharsets.UTF_8))) {
+        try {
+            if (atomic) {
+                if (validateAllRows(file, result, progress) && result.getErrorCount() == 0) {
+                    processAllRowsAtomically(file, result, retainEntities, progress);
+                }
+            } else {
+                processRowsInChunks(file, result, retainEntities, progress);
+            }
+        } catch (ImportCancelledException e) {
+            result.setCancelled(true);
+        } catch (IOException e) {
+            result.addError(0, "File", "Error reading CSV file: " + e.getMessage());
+        } catch (CsvException e) {
+            result.addError(0, "File", "Error parsing CSV: " + e.getMessage());
+        } finally {
+            progress.finish(result);
+        }
 
-            List<String[]> allRows = reader.readAll();
+        return result;
+    }
 
-            if (allRows.isEmpty()) {
-                result.addError(0, "File", "CSV file is empty");
-                return result;
+    private void chunkDone(CsvImportResult<T> result, CsvImportProgress progress) {
+        progress.update(result);
+        if (progress.isCancelRequested()) {
+            throw new ImportCancelledException();
+        }
+    }
+
+    // First pass of an atomic import: validates every row without keeping them in memory.
+    private boolean validateAllRows(MultipartFile file, CsvImportResult<T> result, CsvImportProgress progress)
+            throws IOException, CsvException {
+        progress.startPass(CsvImportProgress.Phase.VALIDATING, 0, 2, file.getSize());
+        try (CSVReader reader = openReader(file, progress)) {
+            if (!readAndValidateHeaders(reader, result)) {
+                return false;
             }
 
-            // Validate headers
-            String[] headers = allRows.get(0);
-            if (!validateHeaders(headers, result)) {
-                return result;
+            CsvLookupContext lookups = new CsvLookupContext();
+            List<RowData> chunk;
+            int rowNumber = 1;
+            while (!(chunk = readChunk(reader, rowNumber, CHUNK_SIZE)).isEmpty()) {
+                rowNumber = chunk.get(chunk.size() - 1).rowNumber();
+                result.setTotalRows(result.getTotalRows() + chunk.size());
+                validateChunk(chunk, result, lookups);
+                chunkDone(result, progress);
             }
+        }
 
-            // Collect valid rows (excluding header and empty rows)
-            List<RowData> validRows = new ArrayList<>();
-            
-            for (int i = 1; i < allRows.size(); i++) {
-                String[] row = allRows.get(i);
-                int rowNumber = i + 1;
+        if (result.getErrorCount() > 0) {
+            result.setRolledBack(true);
+        }
+        return true;
+    }
 
-                // Skip empty rows
-                if (isEmptyRow(row)) {
-                    continue;
+    // Second pass of an atomic import: one transaction, persistence context flushed per chunk.
+    private void processAllRowsAtomically(MultipartFile file, CsvImportResult<T> result, boolean retainEntities,
+                                          CsvImportProgress progress) throws IOException, CsvException {
+        progress.startPass(CsvImportProgress.Phase.IMPORTING, 1, 2, file.getSize());
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try (CSVReader reader = openReader(file, progress)) {
+            reader.readNext(); // header, validated in the first pass
+
+            // Lookups are resolved inside the write transaction so they see rows created by it
+            CsvLookupContext lookups = new CsvLookupContext();
+            List<RowData> chunk;
+            int rowNumber = 1;
+            while (!(chunk = readChunk(reader, rowNumber, CHUNK_SIZE)).isEmpty()) {
+                rowNumber = chunk.get(chunk.size() - 1).rowNumber();
+                List<RowData> rows = nonEmptyRows(chunk);
+                prepareLookups(rows, lookups);
+                processAllRows(rows, result, lookups);
+
+                entityManager.flush();
+                entityManager.clear();
+                if (!retainEntities) {
+                    result.getImportedEntities().clear();
                 }
+                chunkDone(result, progress);
+            }
 
-                // Validate row data
-                if (!validateRow(row, rowNumber, result)) {
-                    result.setErrorCount(result.getErrorCount() + 1);
-                } else {
-                    validRows.add(new RowData(rowNumber, row));
+            transactionManager.commit(status);
+        } catch (CsvImportException e) {
+            rollbackImport(status, result);
+        } catch (ImportCancelledException e) {
+            rollbackImport(status, result);
+            throw e;
+        } catch (RuntimeException e) {
+            result.addError(0, "Processing", e.getMessage());
+            rollbackImport(status, result);
+        } finally {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
+        }
+    }
+
+    private void rollbackImport(TransactionStatus status, CsvImportResult<T> result) {
+        if (!status.isCompleted()) {
+            transactionManager.rollback(status);
+        }
+        result.setRolledBack(true);
+        result.setSuccessCount(0);
+        result.getImportedEntities().clear();
+    }
+
+    // Single pass: each chunk is validated, then its valid rows are committed in a new transaction.
+    private void processRowsInChunks(MultipartFile file, CsvImportResult<T> result, boolean retainEntities,
+                                     CsvImportProgress progress) throws IOException, CsvException {
+        progress.startPass(CsvImportProgress.Phase.IMPORTING, 0, 1, file.getSize());
+        try (CSVReader reader = openReader(file, progress)) {
+            if (!readAndValidateHeaders(reader, result)) {
+                return;
+            }
+
+            CsvLookupContext lookups = new CsvLookupContext();
+            List<RowData> chunk;
+            int rowNumber = 1;
+            while (!(chunk = readChunk(reader, rowNumber, CHUNK_SIZE)).isEmpty()) {
+                rowNumber = chunk.get(chunk.size() - 1).rowNumber();
+                result.setTotalRows(result.getTotalRows() + chunk.size());
+
+                List<RowData> validRows = validateChunk(chunk, result, lookups);
+                if (!validRows.isEmpty()) {
+                    commitChunk(validRows, result, retainEntities);
                 }
+                chunkDone(result, progress);
             }
+        }
+    }
 
-            result.setTotalRows(allRows.size() - 1); // Exclude header
+    /**
+     * Commits a chunk in its own transaction. If the chunk fails it is rolled back and
+     * retried row by row, so a single bad row does not discard the rest of the chunk.
+     * Lookups are chunk-scoped here, a rolled back chunk must not leave entries behind.
+     */
+    private void commitChunk(List<RowData> chunk, CsvImportResult<T> result, boolean retainEntities) {
+        CsvImportResult<T> chunkResult = new CsvImportResult<>();
+        chunkResult.setImportedEntities(new ArrayList<>());
+
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionStatus status = transactionManager.getTransaction(definition);
+        try {
+            CsvLookupContext lookups = new CsvLookupContext();
+            prepareLookups(chunk, lookups);
+            processAllRows(chunk, chunkResult, lookups);
+            transactionManager.commit(status);
+        } catch (RuntimeException e) {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
 
-            if (result.getErrorCount() > 0) {
-                result.setRolledBack(true);
-                return result;
+            if (chunk.size() > 1) {
+                for (RowData rowData : chunk) {
+                    commitChunk(List.of(rowData), result, retainEntities);
+                }
+                return;
             }
 
-            processAllRows(validRows, result);
+            result.setErrorCount(result.getErrorCount() + 1);
+            if (chunkResult.getErrors().isEmpty()) {
+                chunkResult.addError(chunk.get(0).rowNumber(), "Processing", e.getMessage());
+            }
+            chunkResult.getErrors().forEach(error -> addBoundedError(result, error));
+            return;
+        }
 
-        } catch (IOException e) {
-            result.addError(0, "File", "Error reading CSV file: " + e.getMessage());
-        } catch (CsvException e) {
-            result.addError(0, "File", "Error parsing CSV: " + e.getMessage());
-        } catch (CsvImportException e) {
-            result.setRolledBack(true);
+        result.setSuccessCount(result.getSuccessCount() + chunkResult.getSuccessCount());
+        if (retainEntities) {
+            result.getImportedEntities().addAll(chunkResult.getImportedEntities());
         }
+    }
 
-        return result;
+    private List<RowData> validateChunk(List<RowData> chunk, CsvImportResult<T> result,
+                                        CsvLookupContext lookups) {
+        List<RowData> rows = nonEmptyRows(chunk);
+        prepareLookups(rows, lookups);
+
+        List<RowValidation> validations = mapInParallel(rows, rowData -> {
+            CsvImportResult<T> rowResult = new CsvImportResult<>();
+            boolean valid = validateRow(rowData.data(), rowData.rowNumber(), rowResult, lookups);
+            return new RowValidation(valid, rowResult.getErrors());
+        }, (rowData, e) -> new RowValidation(false,
+                List.of(new CsvImportResult.CsvImportError(rowData.rowNumber(), "Validation", e.getMessage()))));
+
+        // Merge in row order
+        List<RowData> validRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            RowValidation validation = validations.get(i);
+            if (validation.valid()) {
+                validRows.add(rows.get(i));
+            } else {
+                result.setErrorCount(result.getErrorCount() + 1);
+                validation.errors().forEach(error -> addBoundedError(result, error));
+            }
+        }
+        return validRows;
     }
 
-    protected void processAllRows(List<RowData> validRows, CsvImportResult<T> result) {
+    /**
+     * Applies a row validator to slices of the batch on virtual threads and returns the
+     * results in row order. Validators only read the prepared {@link CsvLookupContext}
+     * and must not touch the database. A validator that throws is turned into that row's
+     * result by {@code onError}, so one bad row cannot abort the batch.
+     */
+    private <R> List<R> mapInParallel(List<RowData> rows, Function<RowData, R> validator,
+                                      BiFunction<RowData, RuntimeException, R> onError) {
+        Function<RowData, R> safeValidator = rowData -> {
+            try {
+                return validator.apply(rowData);
+            } catch (RuntimeException e) {
+                return onError.apply(rowData, e);
+            }
+        };
+        if (rows.size() < PARALLEL_VALIDATION_THRESHOLD) {
+            return rows.stream().map(safeValidator).toList();
+        }
+
+        int sliceSize = Math.ceilDiv(rows.size(), VALIDATION_PARALLELISM);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<R>>> slices = new ArrayList<>();
+            for (int from = 0; from < rows.size(); from += sliceSize) {
+                List<RowData> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+                slices.add(executor.submit(() -> slice.stream().map(safeValidator).toList()));
+            }
+
+            List<R> results = new ArrayList<>(rows.size());
+            for (Future<List<R>> slice : slices) {
+                results.addAll(slice.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("CSV validation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("CSV validation failed", e.getCause());
+        }
+    }
+
+    private void addBoundedError(CsvImportResult<T> result, CsvImportResult.CsvImportError error) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(error);
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private boolean readAndValidateHeaders(CSVReader reader, CsvImportResult<T> result)
+            throws IOException, CsvException {
+        String[] headers = reader.readNext();
+        if (headers == null) {
+            result.addError(0, "File", "CSV file is empty");
+            return false;
+        }
+        return validateHeaders(headers, result);
+    }
+
+    private List<RowData> readChunk(CSVReader reader, int lastRowNumber, int chunkSize)
+            throws IOException, CsvException {
+        List<RowData> chunk = new ArrayList<>(chunkSize);
+        String[] row;
+        while (chunk.size() < chunkSize && (row = reader.readNext()) != null) {
+            chunk.add(new RowData(lastRowNumber + chunk.size() + 1, row));
+        }
+        return chunk;
+    }
+
+    private List<RowData> nonEmptyRows(List<RowData> chunk) {
+        return chunk.stream()
+                .filter(rowData -> !isEmptyRow(rowData.data()))
+                .toList();
+    }
+
+    private CSVReader openReader(MultipartFile file, CsvImportProgress progress) throws IOException {
+        InputStream input = file.getInputStream();
+        if (progress != null) {
+            input = new ProgressInputStream(input, progress);
+        }
+        return new CSVReader(new InputStreamReader(new BOMInputStream(input), StandardCharsets.UTF_8));
+    }
+
+    protected void processAllRows(List<RowData> validRows, CsvImportResult<T> result, CsvLookupContext lookups) {
         for (RowData rowData : validRows) {
             try {
-                T entity = processRow(rowData.data, rowData.rowNumber, result);
+                T entity = processRow(rowData.data(), rowData.rowNumber(), result, lookups);
                 if (entity != null) {
                     result.getImportedEntities().add(entity);
                     result.setSuccessCount(result.getSuccessCount() + 1);
                 } else {
                     result.setErrorCount(result.getErrorCount() + 1);
-                    throw new CsvImportException("Import failed at row " + rowData.rowNumber);
+                    throw new CsvImportException("Import failed at row " + rowData.rowNumber());
                 }
             } catch (CsvImportException e) {
                 throw e;
             } catch (Exception e) {
-                result.addError(rowData.rowNumber, "Processing", e.getMessage());
+                result.addError(rowData.rowNumber(), "Processing", e.getMessage());
                 result.setErrorCount(result.getErrorCount() + 1);
-                throw new CsvImportException("Import failed at row " + rowData.rowNumber + ": " + e.getMessage());
+                throw new CsvImportException("Import failed at row " + rowData.rowNumber() + ": " + e.getMessage());
             }
         }
     }
 
-    protected static class RowData {
-        final int rowNumber;
-        final String[] data;
+    protected record RowData(int rowNumber, String[] data) {
+    }
 
-        RowData(int rowNumber, String[] data) {
-            this.rowNumber = rowNumber;
-            this.data = data;
-        }
+    private record RowValidation(boolean valid, List<CsvImportResult.CsvImportError> errors) {
     }
 
 
@@ -210,9 +521,48 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
         }
     }
 
-    protected abstract T processRow(String[] data, int rowNumber, CsvImportResult<T> result);
+    private static class ImportCancelledException extends RuntimeException {
+        ImportCancelledException() {
+            super("Import cancelled");
+        }
+    }
+
+    // Counts the raw bytes consumed by the reader, for the progress percentage
+    private static class ProgressInputStream extends FilterInputStream {
+        private final CsvImportProgress progress;
+
+        ProgressInputStream(InputStream in, CsvImportProgress progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                progress.addBytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                progress.addBytesRead(n);
+            }
+            return n;
+        }
+    }
+
+    protected abstract T processRow(String[] data, int rowNumber, CsvImportResult<T> result,
+                                    CsvLookupContext lookups);
 
     protected boolean validateFile(MultipartFile file, CsvImportResult<T> result) {
+        return validateFile(file, result, MAX_FILE_SIZE);
+    }
+
+    protected boolean validateFile(MultipartFile file, CsvImportResult<T> result, long maxFileSize) {
         if (file == null || file.isEmpty()) {
             result.addError(0, "File", "Please select a CSV file to upload");
             return false;
@@ -224,8 +574,9 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
             return false;
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            result.addError(0, "File", "File size exceeds maximum limit of 10MB");
+        if (file.getSize() > maxFileSize) {
+            result.addError(0, "File",
+                    String.format("File size exceeds maximum limit of %dMB", maxFileSize / (1024 * 1024)));
             return false;
         }
 
@@ -292,8 +643,8 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
             return "File must be a CSV file (.csv)";
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            return "File size exceeds maximum limit of 10MB";
+        if (file.getSize() > MAX_STREAMING_FILE_SIZE) {
+            return "File size exceeds maximum limit of 100MB";
         }
 
         return null;
@@ -318,4 +669,4 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package vn.sun.membermanagementsystem.services.csv;
+
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+
+import java.util.List;
+
+/**
+ * Live progress of a running import, written by the import thread after every chunk and
+ * read by pollers. Also carries the cancellation request in the other direction.
+ */
+public class CsvImportProgress {
+
+    public enum Phase {
+        PENDING,
+        VALIDATING,
+        IMPORTING,
+        DONE
+    }
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile int pass;
+    private volatile int totalPasses = 1;
+    private volatile long totalBytes;
+    private volatile long bytesRead;
+    private volatile int rowsRead;
+    private volatile int successCount;
+    private volatile int errorCount;
+    private volatile List<CsvImportResult.CsvImportError> errors = List.of();
+    private volatile boolean cancelRequested;
+
+    void startPass(Phase phase, int pass, int totalPasses, long totalBytes) {
+        this.phase = phase;
+        this.pass = pass;
+        this.totalPasses = totalPasses;
+        this.totalBytes = totalBytes;
+        this.bytesRead = 0;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead += bytes;
+    }
+
+    void update(CsvImportResult<?> result) {
+        rowsRead = result.getTotalRows();
+        successCount = result.getSuccessCount();
+        errorCount = result.getErrorCount();
+        errors = List.copyOf(result.getErrors());
+    }
+
+    void finish(CsvImportResult<?> result) {
+        update(result);
+        phase = Phase.DONE;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getPercent() {
+        if (phase == Phase.DONE) {
+            return 100;
+        }
+        if (phase == Phase.PENDING || totalBytes <= 0) {
+            return 0;
+        }
+        double passFraction = Math.min(1.0, (double) bytesRead / totalBytes);
+        return (int) ((pass + passFraction) * 100 / totalPasses);
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public List<CsvImportResult.CsvImportError> getErrors() {
+        return errors;
+    }
+}
@@ -10,6 +10,10 @@ public interface CsvImportService<T> {
 
     CsvImportResult<T> importFromCsv(MultipartFile file);
 
+    CsvImportResult<T> importFromCsvStreaming(MultipartFile file, boolean atomic);
+
+    CsvImportResult<T> importFromCsvStreaming(MultipartFile file, boolean atomic, CsvImportProgress progress);
+
     boolean validateRow(String[] data, int rowNumber, CsvImportResult<T> result);
 
     String[] getExpectedHeaders();
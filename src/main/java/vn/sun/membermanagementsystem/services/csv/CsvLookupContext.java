@@ -0,0 +1,87 @@
+package vn.sun.membermanagementsystem.services.csv;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Import-scoped dictionaries filled before rows are validated or processed, so that row
+ * checks are in-memory lookups instead of one query per row. Keys are compared
+ * case-insensitively. Also records the first row each key appears on, to detect
+ * duplicates inside the file.
+ */
+public class CsvLookupContext {
+
+    private final Map<String, Map<String, Object>> dictionaries = new HashMap<>();
+    private final Map<String, Map<String, Integer>> firstRows = new HashMap<>();
+
+    /**
+     * Loads the keys of the given type that have not been looked up yet with a single call to
+     * {@code loader}. Keys the loader does not return are remembered as missing.
+     */
+    public <V> void resolve(String type, Collection<String> keys,
+                            Function<Set<String>, Collection<V>> loader, Function<V, String> keyOf) {
+        Map<String, Object> dictionary = dictionary(type);
+
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (String key : keys) {
+            String normalized = normalize(key);
+            if (!normalized.isEmpty() && !dictionary.containsKey(normalized)) {
+                unresolved.add(normalized);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        for (V value : loader.apply(unresolved)) {
+            dictionary.put(normalize(keyOf.apply(value)), value);
+        }
+        unresolved.forEach(key -> dictionary.putIfAbsent(key, null));
+    }
+
+    public void put(String type, String key, Object value) {
+        dictionary(type).put(normalize(key), value);
+    }
+
+    public boolean contains(String type, String key) {
+        return get(type, key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(String type, String key) {
+        Map<String, Object> dictionary = dictionaries.get(type);
+        return dictionary != null ? (V) dictionary.get(normalize(key)) : null;
+    }
+
+    public void registerRow(String type, String key, int rowNumber) {
+        String normalized = normalize(key);
+        if (!normalized.isEmpty()) {
+            firstRows.computeIfAbsent(type, t -> new HashMap<>()).putIfAbsent(normalized, rowNumber);
+        }
+    }
+
+    /**
+     * Returns the earlier row holding the same key, or null if {@code rowNumber} is its first occurrence.
+     */
+    public Integer duplicateOf(String type, String key, int rowNumber) {
+        Map<String, Integer> rows = firstRows.get(type);
+        if (rows == null) {
+            return null;
+        }
+        Integer firstRow = rows.get(normalize(key));
+        return firstRow != null && firstRow != rowNumber ? firstRow : null;
+    }
+
+    private Map<String, Object> dictionary(String type) {
+        return dictionaries.computeIfAbsent(type, t -> new HashMap<>());
+    }
+
+    private String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+}
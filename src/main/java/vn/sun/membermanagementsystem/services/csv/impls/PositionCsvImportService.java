@@ -3,12 +3,12 @@ package vn.sun.membermanagementsystem.services.csv.impls;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.entities.Position;
 import vn.sun.membermanagementsystem.repositories.PositionRepository;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.CsvLookupContext;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,15 +20,37 @@ import java.util.List;
 public class PositionCsvImportService extends AbstractCsvImportService<Position> {
 
     private final PositionRepository positionRepository;
+    private final ReferenceDataCache referenceDataCache;
     private static final int COL_NAME = 0;
     private static final int COL_ABBREVIATION = 1;
 
+    private static final String LOOKUP_NAME = "name";
+    private static final String LOOKUP_ABBREVIATION = "abbreviation";
+
+    @Override
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+        List<String> names = new ArrayList<>(rows.size());
+        List<String> abbreviations = new ArrayList<>(rows.size());
+        for (RowData row : rows) {
+            String name = getStringValue(row.data(), COL_NAME);
+            String abbreviation = getStringValue(row.data(), COL_ABBREVIATION);
+            names.add(name);
+            abbreviations.add(abbreviation);
+            lookups.registerRow(LOOKUP_NAME, name, row.rowNumber());
+            lookups.registerRow(LOOKUP_ABBREVIATION, abbreviation, row.rowNumber());
+        }
+        lookups.resolve(LOOKUP_NAME, names,
+                positionRepository::findByLowerNamesAndNotDeleted, Position::getName);
+        lookups.resolve(LOOKUP_ABBREVIATION, abbreviations,
+                positionRepository::findByLowerAbbreviationsAndNotDeleted, Position::getAbbreviation);
+    }
+
     @Override
-    protected List<String> validateRowForPreview(String[] data, int rowNumber) {
-        return validateRowData(data);
+    protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
+        return validateRowData(data, rowNumber, lookups);
     }
 
-    private List<String> validateRowData(String[] data) {
+    private List<String> validateRowData(String[] data, int rowNumber, CsvLookupContext lookups) {
         List<String> errors = new ArrayList<>();
 
         // Validate name (required)
@@ -37,8 +59,13 @@ public class PositionCsvImportService extends AbstractCsvImportService<Position>
             errors.add("Name is required");
         } else if (name.length() > 255) {
             errors.add("Name must be less than 255 characters");
-        } else if (positionRepository.existsByNameIgnoreCaseAndNotDeleted(name, null)) {
+        } else if (lookups.contains(LOOKUP_NAME, name)) {
             errors.add("Position name already exists: " + name);
+        } else {
+            Integer firstRow = lookups.duplicateOf(LOOKUP_NAME, name, rowNumber);
+            if (firstRow != null) {
+                errors.add("Duplicate position name in file (first seen at row " + firstRow + "): " + name);
+            }
         }
 
         // Validate abbreviation (required)
@@ -47,21 +74,21 @@ public class PositionCsvImportService extends AbstractCsvImportService<Position>
             errors.add("Abbreviation is required");
         } else if (abbreviation.length() > 50) {
             errors.add("Abbreviation must be less than 50 characters");
-        } else if (positionRepository.existsByAbbreviationIgnoreCaseAndNotDeleted(abbreviation, null)) {
+        } else if (lookups.contains(LOOKUP_ABBREVIATION, abbreviation)) {
             errors.add("Abbreviation already exists: " + abbreviation);
+        } else {
+            Integer firstRow = lookups.duplicateOf(LOOKUP_ABBREVIATION, abbreviation, rowNumber);
+            if (firstRow != null) {
+                errors.add("Duplicate abbreviation in file (first seen at row " + firstRow + "): " + abbreviation);
+            }
         }
 
         return errors;
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
-    public CsvImportResult<Position> importFromCsv(MultipartFile file) {
-        return super.importFromCsv(file);
-    }
-
-    @Override
-    protected Position processRow(String[] data, int rowNumber, CsvImportResult<Position> result) {
+    protected Position processRow(String[] data, int rowNumber, CsvImportResult<Position> result,
+                                  CsvLookupContext lookups) {
         String name = getStringValue(data, COL_NAME);
         String abbreviation = getStringValue(data, COL_ABBREVIATION);
 
@@ -74,6 +101,7 @@ public class PositionCsvImportService extends AbstractCsvImportService<Position>
 
         // Save to database
         Position savedPosition = positionRepository.save(position);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.POSITIONS);
         log.info("Row {}: Created position '{}' ({}) with ID: {}", 
                 rowNumber, savedPosition.getName(), savedPosition.getAbbreviation(), savedPosition.getId());
 
@@ -81,8 +109,9 @@ public class PositionCsvImportService extends AbstractCsvImportService<Position>
     }
 
     @Override
-    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<Position> result) {
-        List<String> errors = validateRowData(data);
+    protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<Position> result,
+                                  CsvLookupContext lookups) {
+        List<String> errors = validateRowData(data, rowNumber, lookups);
 
         for (String error : errors) {
             result.addError(rowNumber, "Validation", error);
@@ -1,6 +1,8 @@
 package vn.sun.membermanagementsystem.services.csv.impls;
 
 import com.opencsv.CSVWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +15,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +24,12 @@ public class ProjectCsvExportService implements CsvExportService<Project> {
 
     private final ProjectRepository projectRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows written between flushes of the writer and clears of the persistence context
+    private static final int FLUSH_INTERVAL = 500;
+
     private static final String[] HEADERS = {
             "Name", "Abbreviation", "StartDate", "EndDate", "TeamName", "LeaderEmail", "MemberEmails"
     };
@@ -29,12 +37,13 @@ public class ProjectCsvExportService implements CsvExportService<Project> {
     @Override
     @Transactional(readOnly = true)
     public void exportToCsv(OutputStream outputStream) throws IOException {
-        List<Project> projects = projectRepository.findAll();
-
-        try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+        try (Stream<Project> projects = projectRepository.streamAll();
+             CSVWriter writer = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
             writer.writeNext(HEADERS);
+            writer.flush();
 
-            for (Project p : projects) {
+            int count = 0;
+            for (Project p : (Iterable<Project>) projects::iterator) {
                 String leaderEmail = p.getLeadershipHistory().stream()
                         .filter(h -> h.getEndedAt() == null)
                         .findFirst()
@@ -56,6 +65,11 @@ public class ProjectCsvExportService implements CsvExportService<Project> {
                         memberEmails
                 };
                 writer.writeNext(data);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
             }
         }
     }
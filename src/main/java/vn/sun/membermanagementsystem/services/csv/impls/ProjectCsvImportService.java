@@ -12,6 +12,7 @@ import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.ProjectService;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.CsvLookupContext;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -32,6 +33,9 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
             "Name", "Abbreviation", "StartDate", "EndDate", "TeamName", "LeaderEmail", "MemberEmails"
     };
 
+    private static final String LOOKUP_TEAM = "team";
+    private static final String LOOKUP_USER = "user";
+
     @Override
     public String[] getExpectedHeaders() {
         return HEADERS;
@@ -45,7 +49,34 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
     }
 
     @Override
-    protected ProjectDTO processRow(String[] data, int rowNumber, CsvImportResult<ProjectDTO> result) {
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+        List<String> teamNames = new ArrayList<>(rows.size());
+        List<String> emails = new ArrayList<>();
+        for (RowData row : rows) {
+            teamNames.add(getStringValue(row.data(), 4));
+            emails.add(getStringValue(row.data(), 5));
+            emails.addAll(splitEmails(getStringValue(row.data(), 6)));
+        }
+        lookups.resolve(LOOKUP_TEAM, teamNames, teamRepository::findAllByNameInAndNotDeleted, Team::getName);
+        lookups.resolve(LOOKUP_USER, emails, userRepository::findAllByEmailInAndNotDeleted, User::getEmail);
+    }
+
+    private List<String> splitEmails(String memberEmailsStr) {
+        List<String> emails = new ArrayList<>();
+        if (isNotBlank(memberEmailsStr)) {
+            for (String email : memberEmailsStr.split(";")) {
+                String cleanEmail = email.trim();
+                if (!cleanEmail.isEmpty()) {
+                    emails.add(cleanEmail);
+                }
+            }
+        }
+        return emails;
+    }
+
+    @Override
+    protected ProjectDTO processRow(String[] data, int rowNumber, CsvImportResult<ProjectDTO> result,
+                                    CsvLookupContext lookups) {
         String name = getStringValue(data, 0);
         String abbrev = getStringValue(data, 1);
         String sDateStr = getStringValue(data, 2);
@@ -54,8 +85,10 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
         String leaderEmail = getStringValue(data, 5);
         String memberEmailsStr = getStringValue(data, 6);
 
-        Team team = teamRepository.findByNameAndNotDeleted(teamName)
-                .orElseThrow(() -> new CsvImportException("Team not found: " + teamName));
+        Team team = lookups.get(LOOKUP_TEAM, teamName);
+        if (team == null) {
+            throw new CsvImportException("Team not found: " + teamName);
+        }
 
         CreateProjectRequest request = new CreateProjectRequest();
         request.setName(name);
@@ -67,22 +100,21 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
         request.setTeamId(team.getId());
 
         if (isNotBlank(leaderEmail)) {
-            User leader = userRepository.findByEmail(leaderEmail)
-                    .orElseThrow(() -> new CsvImportException("Leader email not found: " + leaderEmail));
+            User leader = lookups.get(LOOKUP_USER, leaderEmail);
+            if (leader == null) {
+                throw new CsvImportException("Leader email not found: " + leaderEmail);
+            }
             request.setLeaderId(leader.getId());
         }
 
         if (isNotBlank(memberEmailsStr)) {
             List<Long> memberIds = new ArrayList<>();
-            String[] emails = memberEmailsStr.split(";");
-
-            for (String email : emails) {
-                String cleanEmail = email.trim();
-                if (!cleanEmail.isEmpty()) {
-                    User member = userRepository.findByEmail(cleanEmail)
-                            .orElseThrow(() -> new CsvImportException("Member email not found: " + cleanEmail));
-                    memberIds.add(member.getId());
+            for (String email : splitEmails(memberEmailsStr)) {
+                User member = lookups.get(LOOKUP_USER, email);
+                if (member == null) {
+                    throw new CsvImportException("Member email not found: " + email);
                 }
+                memberIds.add(member.getId());
             }
             request.setMemberIds(memberIds);
         }
@@ -91,7 +123,8 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
     }
 
     @Override
-    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<ProjectDTO> result) {
+    protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<ProjectDTO> result,
+                                  CsvLookupContext lookups) {
         boolean isValid = true;
 
         if (isBlank(getStringValue(data, 0))) { result.addError(rowNumber, "Name", "Required"); isValid = false; }
@@ -112,28 +145,23 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
         }
 
         String teamName = getStringValue(data, 4);
-        if (isNotBlank(teamName) && teamRepository.findByNameAndNotDeleted(teamName).isEmpty()) {
+        if (isNotBlank(teamName) && !lookups.contains(LOOKUP_TEAM, teamName)) {
             result.addError(rowNumber, "TeamName", "Team not found: " + teamName);
             isValid = false;
         }
 
         String leaderEmail = getStringValue(data, 5);
         if (isNotBlank(leaderEmail)) {
-            if (userRepository.findByEmail(leaderEmail).isEmpty()) {
+            if (!lookups.contains(LOOKUP_USER, leaderEmail)) {
                 result.addError(rowNumber, "LeaderEmail", "User not found: " + leaderEmail);
                 isValid = false;
             }
         }
 
-        String memberEmailsStr = getStringValue(data, 6);
-        if (isNotBlank(memberEmailsStr)) {
-            String[] emails = memberEmailsStr.split(";");
-            for (String email : emails) {
-                String cleanEmail = email.trim();
-                if (!cleanEmail.isEmpty() && userRepository.findByEmail(cleanEmail).isEmpty()) {
-                    result.addError(rowNumber, "MemberEmails", "User not found: " + cleanEmail);
-                    isValid = false;
-                }
+        for (String email : splitEmails(getStringValue(data, 6))) {
+            if (!lookups.contains(LOOKUP_USER, email)) {
+                result.addError(rowNumber, "MemberEmails", "User not found: " + email);
+                isValid = false;
             }
         }
 
@@ -141,16 +169,16 @@ public class ProjectCsvImportService extends AbstractCsvImportService<ProjectDTO
     }
 
     @Override
-    protected List<String> validateRowForPreview(String[] data, int rowNumber) {
+    protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
         List<String> errors = new ArrayList<>();
 
         String teamName = getStringValue(data, 4);
-        if (isNotBlank(teamName) && teamRepository.findByNameAndNotDeleted(teamName).isEmpty()) {
+        if (isNotBlank(teamName) && !lookups.contains(LOOKUP_TEAM, teamName)) {
             errors.add("Team not found: " + teamName);
         }
 
         String leaderEmail = getStringValue(data, 5);
-        if (isNotBlank(leaderEmail) && userRepository.findByEmail(leaderEmail).isEmpty()) {
+        if (isNotBlank(leaderEmail) && !lookups.contains(LOOKUP_USER, leaderEmail)) {
             errors.add("Leader not found: " + leaderEmail);
         }
 
@@ -3,12 +3,12 @@ package vn.sun.membermanagementsystem.services.csv.impls;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.entities.Skill;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.CsvLookupContext;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,17 +20,31 @@ import java.util.List;
 public class SkillCsvImportService extends AbstractCsvImportService<Skill> {
 
     private final SkillRepository skillRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     // Column indices
     private static final int COL_NAME = 0;
     private static final int COL_DESCRIPTION = 1;
 
+    private static final String LOOKUP_SKILL = "skill";
+
+    @Override
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+        List<String> names = new ArrayList<>(rows.size());
+        for (RowData row : rows) {
+            String name = getStringValue(row.data(), COL_NAME);
+            names.add(name);
+            lookups.registerRow(LOOKUP_SKILL, name, row.rowNumber());
+        }
+        lookups.resolve(LOOKUP_SKILL, names, skillRepository::findByLowerNamesAndNotDeleted, Skill::getName);
+    }
+
     @Override
-    protected List<String> validateRowForPreview(String[] data, int rowNumber) {
-        return validateRowData(data);
+    protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
+        return validateRowData(data, rowNumber, lookups);
     }
 
-    private List<String> validateRowData(String[] data) {
+    private List<String> validateRowData(String[] data, int rowNumber, CsvLookupContext lookups) {
         List<String> errors = new ArrayList<>();
 
         // Validate name (required)
@@ -39,8 +53,13 @@ public class SkillCsvImportService extends AbstractCsvImportService<Skill> {
             errors.add("Name is required");
         } else if (name.length() > 255) {
             errors.add("Name must be less than 255 characters");
-        } else if (skillRepository.existsByNameIgnoreCaseAndNotDeleted(name)) {
+        } else if (lookups.contains(LOOKUP_SKILL, name)) {
             errors.add("Skill name already exists: " + name);
+        } else {
+            Integer firstRow = lookups.duplicateOf(LOOKUP_SKILL, name, rowNumber);
+            if (firstRow != null) {
+                errors.add("Duplicate skill name in file (first seen at row " + firstRow + "): " + name);
+            }
         }
 
         // Description is optional, no validation needed
@@ -49,13 +68,8 @@ public class SkillCsvImportService extends AbstractCsvImportService<Skill> {
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
-    public CsvImportResult<Skill> importFromCsv(MultipartFile file) {
-        return super.importFromCsv(file);
-    }
-
-    @Override
-    protected Skill processRow(String[] data, int rowNumber, CsvImportResult<Skill> result) {
+    protected Skill processRow(String[] data, int rowNumber, CsvImportResult<Skill> result,
+                               CsvLookupContext lookups) {
         String name = getStringValue(data, COL_NAME);
         String description = getStringValue(data, COL_DESCRIPTION);
 
@@ -68,6 +82,7 @@ public class SkillCsvImportService extends AbstractCsvImportService<Skill> {
 
         // Save to database
         Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.SKILLS);
         log.info("Row {}: Created skill '{}' with ID: {}", 
                 rowNumber, savedSkill.getName(), savedSkill.getId());
 
@@ -75,8 +90,9 @@ public class SkillCsvImportService extends AbstractCsvImportService<Skill> {
     }
 
     @Override
-    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<Skill> result) {
-        List<String> errors = validateRowData(data);
+    protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<Skill> result,
+                                  CsvLookupContext lookups) {
+        List<String> errors = validateRowData(data, rowNumber, lookups);
 
         for (String error : errors) {
             result.addError(rowNumber, "Validation", error);
@@ -1,10 +1,13 @@
 package vn.sun.membermanagementsystem.services.csv.impls;
 
 import com.opencsv.CSVWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.dto.response.TeamSummaryDTO;
 import vn.sun.membermanagementsystem.entities.Team;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.services.csv.CsvExportService;
@@ -16,6 +19,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -24,16 +31,21 @@ public class TeamCsvExportService implements CsvExportService<Team> {
 
     private final TeamRepository teamRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // Teams per page: one summary query, one writer flush and one persistence context clear each
+    private static final int PAGE_SIZE = 500;
+
     @Override
     @Transactional(readOnly = true)
     public void exportToCsv(OutputStream outputStream) throws IOException {
         log.info("Starting export of teams to CSV");
 
-        List<Team> teams = teamRepository.findAllNotDeleted();
-
-        try (CSVWriter writer = new CSVWriter(
+        try (Stream<Team> teams = teamRepository.streamAllNotDeleted();
+             CSVWriter writer = new CSVWriter(
                 new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
                 CSVWriter.DEFAULT_SEPARATOR,
                 CSVWriter.DEFAULT_QUOTE_CHARACTER,
@@ -46,17 +58,43 @@ public class TeamCsvExportService implements CsvExportService<Team> {
             outputStream.write(0xBF);
 
             writer.writeNext(getExportHeaders());
-
-            for (Team team : teams) {
-                String[] row = convertTeamToRow(team);
-                writer.writeNext(row);
+            writer.flush();
+
+            int count = 0;
+            List<Team> page = new ArrayList<>(PAGE_SIZE);
+            for (Team team : (Iterable<Team>) teams::iterator) {
+                page.add(team);
+                if (page.size() == PAGE_SIZE) {
+                    count += writePage(writer, page);
+                }
             }
+            count += writePage(writer, page);
 
-            log.info("Successfully exported {} teams to CSV", teams.size());
+            log.info("Successfully exported {} teams to CSV", count);
         }
     }
 
-    private String[] convertTeamToRow(Team team) {
+    private int writePage(CSVWriter writer, List<Team> page) throws IOException {
+        if (page.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> teamIds = page.stream().map(Team::getId).toList();
+        Map<Long, TeamSummaryDTO> summaries = teamRepository.findSummariesByTeamIds(teamIds).stream()
+                .collect(Collectors.toMap(TeamSummaryDTO::getTeamId, Function.identity(), (first, second) -> first));
+
+        for (Team team : page) {
+            writer.writeNext(convertTeamToRow(team, summaries.get(team.getId())));
+        }
+
+        int written = page.size();
+        page.clear();
+        writer.flush();
+        entityManager.clear();
+        return written;
+    }
+
+    private String[] convertTeamToRow(Team team, TeamSummaryDTO summary) {
         List<String> row = new ArrayList<>();
 
         // ID
@@ -69,62 +107,14 @@ public class TeamCsvExportService implements CsvExportService<Team> {
         row.add(team.getDescription() != null ? team.getDescription() : "");
 
         // Current Leader Name and Email
-        String leaderName = "";
-        String leaderEmail = "";
-        if (team.getLeadershipHistory() != null) {
-            var currentLeader = team.getLeadershipHistory().stream()
-                    .filter(lh -> lh.getEndedAt() == null)
-                    .findFirst();
-            if (currentLeader.isPresent()) {
-                leaderName = currentLeader.get().getLeader().getName() != null 
-                        ? currentLeader.get().getLeader().getName() : "";
-                leaderEmail = currentLeader.get().getLeader().getEmail() != null 
-                        ? currentLeader.get().getLeader().getEmail() : "";
-            }
-        }
-        row.add(leaderName);
-        row.add(leaderEmail);
-
-        // Active Members Count
-        long activeMembersCount = 0;
-        if (team.getTeamMemberships() != null) {
-            activeMembersCount = team.getTeamMemberships().stream()
-                    .filter(tm -> tm.getStatus() != null 
-                            && tm.getStatus().name().equals("ACTIVE") 
-                            && tm.getLeftAt() == null)
-                    .count();
-        }
-        row.add(String.valueOf(activeMembersCount));
-
-        // Total Members Count (not left)
-        long totalMembersCount = 0;
-        if (team.getTeamMemberships() != null) {
-            totalMembersCount = team.getTeamMemberships().stream()
-                    .filter(tm -> tm.getLeftAt() == null)
-                    .count();
-        }
-        row.add(String.valueOf(totalMembersCount));
-
-        // Active Projects Count
-        long activeProjectsCount = 0;
-        if (team.getProjects() != null) {
-            activeProjectsCount = team.getProjects().stream()
-                    .filter(p -> p.getDeletedAt() == null 
-                            && p.getStatus() != null
-                            && !p.getStatus().name().equals("COMPLETED")
-                            && !p.getStatus().name().equals("CANCELLED"))
-                    .count();
-        }
-        row.add(String.valueOf(activeProjectsCount));
-
-        // Total Projects Count
-        long totalProjectsCount = 0;
-        if (team.getProjects() != null) {
-            totalProjectsCount = team.getProjects().stream()
-                    .filter(p -> p.getDeletedAt() == null)
-                    .count();
-        }
-        row.add(String.valueOf(totalProjectsCount));
+        row.add(summary != null && summary.getLeaderName() != null ? summary.getLeaderName() : "");
+        row.add(summary != null && summary.getLeaderEmail() != null ? summary.getLeaderEmail() : "");
+
+        // Active Members, Total Members (not left), Active Projects, Total Projects
+        row.add(String.valueOf(summary != null ? summary.getActiveMembers() : 0));
+        row.add(String.valueOf(summary != null ? summary.getTotalMembers() : 0));
+        row.add(String.valueOf(summary != null ? summary.getActiveProjects() : 0));
+        row.add(String.valueOf(summary != null ? summary.getTotalProjects() : 0));
 
         // Created At
         row.add(team.getCreatedAt() != null ? team.getCreatedAt().format(DATETIME_FORMATTER) : "");
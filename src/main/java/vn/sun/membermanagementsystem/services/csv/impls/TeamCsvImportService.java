@@ -3,8 +3,6 @@ package vn.sun.membermanagementsystem.services.csv.impls;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import vn.sun.membermanagementsystem.dto.request.CreateTeamRequest;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
@@ -15,6 +13,7 @@ import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.TeamLeadershipService;
 import vn.sun.membermanagementsystem.services.TeamService;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.CsvLookupContext;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,12 +34,29 @@ public class TeamCsvImportService extends AbstractCsvImportService<Team> {
     private static final int COL_DESCRIPTION = 1;
     private static final int COL_LEADER_EMAIL = 2;
 
+    private static final String LOOKUP_TEAM = "team";
+    private static final String LOOKUP_LEADER = "leader";
+
+    @Override
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+        List<String> names = new ArrayList<>(rows.size());
+        List<String> leaderEmails = new ArrayList<>(rows.size());
+        for (RowData row : rows) {
+            String name = getStringValue(row.data(), COL_NAME);
+            names.add(name);
+            leaderEmails.add(getStringValue(row.data(), COL_LEADER_EMAIL));
+            lookups.registerRow(LOOKUP_TEAM, name, row.rowNumber());
+        }
+        lookups.resolve(LOOKUP_TEAM, names, teamRepository::findAllByNameInAndNotDeleted, Team::getName);
+        lookups.resolve(LOOKUP_LEADER, leaderEmails, userRepository::findAllByEmailInAndNotDeleted, User::getEmail);
+    }
+
     @Override
-    protected List<String> validateRowForPreview(String[] data, int rowNumber) {
-        return validateRowData(data);
+    protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
+        return validateRowData(data, rowNumber, lookups);
     }
 
-    private List<String> validateRowData(String[] data) {
+    private List<String> validateRowData(String[] data, int rowNumber, CsvLookupContext lookups) {
         List<String> errors = new ArrayList<>();
 
         // Validate name (required)
@@ -49,14 +65,19 @@ public class TeamCsvImportService extends AbstractCsvImportService<Team> {
             errors.add("Name is required");
         } else if (name.length() > 255) {
             errors.add("Name must be less than 255 characters");
-        } else if (teamRepository.existsByNameAndNotDeleted(name)) {
+        } else if (lookups.contains(LOOKUP_TEAM, name)) {
             errors.add("Team name already exists: " + name);
+        } else {
+            Integer firstRow = lookups.duplicateOf(LOOKUP_TEAM, name, rowNumber);
+            if (firstRow != null) {
+                errors.add("Duplicate team name in file (first seen at row " + firstRow + "): " + name);
+            }
         }
 
         // Validate leader email (optional)
         String leaderEmail = getStringValue(data, COL_LEADER_EMAIL);
         if (isNotBlank(leaderEmail)) {
-            if (!userRepository.existsByEmailAndNotDeleted(leaderEmail)) {
+            if (!lookups.contains(LOOKUP_LEADER, leaderEmail)) {
                 errors.add("Leader email not found: " + leaderEmail);
             }
         }
@@ -67,13 +88,8 @@ public class TeamCsvImportService extends AbstractCsvImportService<Team> {
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
-    public CsvImportResult<Team> importFromCsv(MultipartFile file) {
-        return super.importFromCsv(file);
-    }
-
-    @Override
-    protected Team processRow(String[] data, int rowNumber, CsvImportResult<Team> result) {
+    protected Team processRow(String[] data, int rowNumber, CsvImportResult<Team> result,
+                              CsvLookupContext lookups) {
         String name = getStringValue(data, COL_NAME);
         String description = getStringValue(data, COL_DESCRIPTION);
         String leaderEmail = getStringValue(data, COL_LEADER_EMAIL);
@@ -81,13 +97,11 @@ public class TeamCsvImportService extends AbstractCsvImportService<Team> {
         // Find leader if email provided
         Long leaderId = null;
         if (isNotBlank(leaderEmail)) {
-            try {
-                User leader = userRepository.findByEmailAndNotDeleted(leaderEmail)
-                        .orElseThrow(() -> new RuntimeException("Leader not found: " + leaderEmail));
+            User leader = lookups.get(LOOKUP_LEADER, leaderEmail);
+            if (leader != null) {
                 leaderId = leader.getId();
-            } catch (Exception e) {
-                log.warn("Row {}: Leader not found '{}': {}",
-                        rowNumber, leaderEmail, e.getMessage());
+            } else {
+                log.warn("Row {}: Leader not found '{}'", rowNumber, leaderEmail);
             }
         }
 
@@ -109,8 +123,9 @@ public class TeamCsvImportService extends AbstractCsvImportService<Team> {
     }
 
     @Override
-    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<Team> result) {
-        List<String> errors = validateRowData(data);
+    protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<Team> result,
+                                  CsvLookupContext lookups) {
+        List<String> errors = validateRowData(data, rowNumber, lookups);
 
         for (String error : errors) {
             result.addError(rowNumber, "Validation", error);
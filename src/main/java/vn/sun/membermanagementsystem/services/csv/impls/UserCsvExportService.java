@@ -1,6 +1,8 @@
 package vn.sun.membermanagementsystem.services.csv.impls;
 
 import com.opencsv.CSVWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,8 @@ import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,16 +32,21 @@ public class UserCsvExportService implements CsvExportService<User> {
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    // Users per page: one skills query, one writer flush and one persistence context clear each
+    private static final int PAGE_SIZE = 500;
+
     @Override
     @Transactional(readOnly = true)
     public void exportToCsv(OutputStream outputStream) throws IOException {
         log.info("Starting export of users to CSV");
-        
-        List<User> users = userRepository.findAllNotDeleted();
-        
-        try (CSVWriter writer = new CSVWriter(
+
+        try (Stream<User> users = userRepository.streamAllNotDeleted();
+             CSVWriter writer = new CSVWriter(
                 new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
                 CSVWriter.DEFAULT_SEPARATOR,
                 CSVWriter.DEFAULT_QUOTE_CHARACTER,
@@ -50,17 +59,43 @@ public class UserCsvExportService implements CsvExportService<User> {
             outputStream.write(0xBF);
             
             writer.writeNext(getExportHeaders());
-            
-            for (User user : users) {
-                String[] row = convertUserToRow(user);
-                writer.writeNext(row);
+            writer.flush();
+
+            int count = 0;
+            List<User> page = new ArrayList<>(PAGE_SIZE);
+            for (User user : (Iterable<User>) users::iterator) {
+                page.add(user);
+                if (page.size() == PAGE_SIZE) {
+                    count += writePage(writer, page);
+                }
             }
+            count += writePage(writer, page);
             
-            log.info("Successfully exported {} users to CSV", users.size());
+            log.info("Successfully exported {} users to CSV", count);
         }
     }
 
-    private String[] convertUserToRow(User user) {
+    private int writePage(CSVWriter writer, List<User> page) throws IOException {
+        if (page.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> userIds = page.stream().map(User::getId).toList();
+        Map<Long, List<UserSkill>> skillsByUser = userSkillRepository.findByUserIdsWithSkill(userIds).stream()
+                .collect(Collectors.groupingBy(us -> us.getUser().getId()));
+
+        for (User user : page) {
+            writer.writeNext(convertUserToRow(user, skillsByUser.getOrDefault(user.getId(), List.of())));
+        }
+
+        int written = page.size();
+        page.clear();
+        writer.flush();
+        entityManager.clear();
+        return written;
+    }
+
+    private String[] convertUserToRow(User user, List<UserSkill> userSkills) {
         List<String> row = new ArrayList<>();
         
         row.add(user.getId() != null ? user.getId().toString() : "");
@@ -71,7 +106,6 @@ public class UserCsvExportService implements CsvExportService<User> {
         row.add(user.getStatus() != null ? user.getStatus().name() : "");
         
         // Skills - format: skill1:level1:years1|skill2:level2:years2
-        List<UserSkill> userSkills = userSkillRepository.findByUserId(user.getId());
         String skillsString = userSkills.stream()
                 .map(us -> {
                     String skillName = us.getSkill() != null ? us.getSkill().getName() : "";
@@ -2,33 +2,34 @@ package vn.sun.membermanagementsystem.services.csv.impls;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import vn.sun.membermanagementsystem.dto.request.CreateSkillRequest;
-import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
-import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
 import vn.sun.membermanagementsystem.dto.response.SkillDTO;
-import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.entities.Skill;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.entities.UserSkill;
 import vn.sun.membermanagementsystem.enums.UserRole;
 import vn.sun.membermanagementsystem.enums.UserStatus;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.repositories.UserBatchRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.SkillService;
-import vn.sun.membermanagementsystem.services.UserService;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogRecorder;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
-import org.springframework.web.multipart.MultipartFile;
+import vn.sun.membermanagementsystem.services.csv.CsvLookupContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 @Slf4j
@@ -37,9 +38,16 @@ import java.util.regex.Pattern;
 public class UserCsvImportService extends AbstractCsvImportService<User> {
 
     private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
     private final SkillRepository skillRepository;
-    private final UserService userService;
     private final SkillService skillService;
+    private final PasswordEncoder passwordEncoder;
+    private final ActivityLogRecorder activityLogRecorder;
+
+    @Value("${default.user.password:123456}")
+    private String defaultPassword;
+
+    private volatile String defaultPasswordHash;
 
     private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
     private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
@@ -52,12 +60,35 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
     private static final int COL_STATUS = 4;
     private static final int COL_SKILLS = 5;
 
+    private static final String LOOKUP_EMAIL = "email";
+    private static final String LOOKUP_SKILL = "skill";
+
+    @Override
+    protected void prepareLookups(List<RowData> rows, CsvLookupContext lookups) {
+        List<String> emails = new ArrayList<>(rows.size());
+        List<String> skillNames = new ArrayList<>();
+        for (RowData row : rows) {
+            String email = getStringValue(row.data(), COL_EMAIL);
+            emails.add(email);
+            lookups.registerRow(LOOKUP_EMAIL, email, row.rowNumber());
+
+            for (String entry : getStringValue(row.data(), COL_SKILLS).split("\\|")) {
+                String[] parts = entry.split(":");
+                if (parts.length >= 2) {
+                    skillNames.add(parts[0].trim());
+                }
+            }
+        }
+        lookups.resolve(LOOKUP_EMAIL, emails, userRepository::findAllByEmailInAndNotDeleted, User::getEmail);
+        lookups.resolve(LOOKUP_SKILL, skillNames, skillRepository::findByLowerNamesAndNotDeleted, Skill::getName);
+    }
+
     @Override
-    protected List<String> validateRowForPreview(String[] data, int rowNumber) {
-        return validateRowData(data);
+    protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
+        return validateRowData(data, rowNumber, lookups);
     }
 
-    private List<String> validateRowData(String[] data) {
+    private List<String> validateRowData(String[] data, int rowNumber, CsvLookupContext lookups) {
         List<String> errors = new ArrayList<>();
 
         // Validate name
@@ -76,8 +107,13 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
             errors.add("Invalid email format");
         } else if (email.length() > 255) {
             errors.add("Email must be less than 255 characters");
-        } else if (userRepository.existsByEmailAndNotDeleted(email)) {
+        } else if (lookups.contains(LOOKUP_EMAIL, email)) {
             errors.add("Email already exists: " + email);
+        } else {
+            Integer firstRow = lookups.duplicateOf(LOOKUP_EMAIL, email, rowNumber);
+            if (firstRow != null) {
+                errors.add("Duplicate email in file (first seen at row " + firstRow + "): " + email);
+            }
         }
 
         // Validate birthday
@@ -164,86 +200,156 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
-    public CsvImportResult<User> importFromCsv(MultipartFile file) {
-        return super.importFromCsv(file);
+    protected User processRow(String[] data, int rowNumber, CsvImportResult<User> result,
+                              CsvLookupContext lookups) {
+        return insertUsers(List.of(new RowData(rowNumber, data)), lookups).get(0);
     }
 
+    /**
+     * Writes a whole chunk with JDBC batches: one insert batch for users, one for their skills.
+     */
     @Override
-    protected User processRow(String[] data, int rowNumber, CsvImportResult<User> result) {
-        String name = getStringValue(data, COL_NAME);
-        String email = getStringValue(data, COL_EMAIL);
-        String birthdayStr = getStringValue(data, COL_BIRTHDAY);
-        String roleStr = getStringValue(data, COL_ROLE);
-        String statusStr = getStringValue(data, COL_STATUS);
-        String skillsStr = getStringValue(data, COL_SKILLS);
+    protected void processAllRows(List<RowData> validRows, CsvImportResult<User> result,
+                                  CsvLookupContext lookups) {
+        if (validRows.isEmpty()) {
+            return;
+        }
 
-        // Build UserCreateDTO
-        UserCreateDTO userCreateDTO = new UserCreateDTO();
-        userCreateDTO.setName(name);
-        userCreateDTO.setEmail(email);
-        
-        if (isNotBlank(birthdayStr)) {
-            userCreateDTO.setBirthday(LocalDate.parse(birthdayStr, DATE_FORMATTER));
+        try {
+            List<User> users = insertUsers(validRows, lookups);
+            result.getImportedEntities().addAll(users);
+            result.setSuccessCount(result.getSuccessCount() + users.size());
+        } catch (Exception e) {
+            int firstRow = validRows.get(0).rowNumber();
+            int lastRow = validRows.get(validRows.size() - 1).rowNumber();
+            String message = firstRow == lastRow
+                    ? e.getMessage()
+                    : String.format("Rows %d-%d: %s", firstRow, lastRow, e.getMessage());
+            result.addError(firstRow, "Processing", message);
+            result.setErrorCount(result.getErrorCount() + 1);
+            throw new CsvImportException("Import failed at row " + firstRow + ": " + e.getMessage());
         }
-        
-        userCreateDTO.setRole(UserRole.valueOf(roleStr.toUpperCase().trim()));
-        userCreateDTO.setStatus(isNotBlank(statusStr) ? UserStatus.valueOf(statusStr.toUpperCase().trim()) : UserStatus.ACTIVE);
+    }
 
-        // Process skills
-        if (isNotBlank(skillsStr)) {
-            List<UserSkillRequestDTO> skillDTOs = processSkillsForDto(skillsStr, rowNumber);
-            userCreateDTO.setSkills(skillDTOs);
+    private List<User> insertUsers(List<RowData> rows, CsvLookupContext lookups) {
+        LocalDateTime now = LocalDateTime.now();
+        String passwordHash = getDefaultPasswordHash();
+
+        List<User> users = new ArrayList<>(rows.size());
+        for (RowData row : rows) {
+            String birthdayStr = getStringValue(row.data(), COL_BIRTHDAY);
+            String statusStr = getStringValue(row.data(), COL_STATUS);
+
+            users.add(User.builder()
+                    .name(getStringValue(row.data(), COL_NAME))
+                    .email(getStringValue(row.data(), COL_EMAIL))
+                    .passwordHash(passwordHash)
+                    .birthday(isNotBlank(birthdayStr) ? LocalDate.parse(birthdayStr, DATE_FORMATTER) : null)
+                    .role(UserRole.valueOf(getStringValue(row.data(), COL_ROLE).toUpperCase()))
+                    .status(isNotBlank(statusStr) ? UserStatus.valueOf(statusStr.toUpperCase()) : UserStatus.ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
         }
 
-        UserProfileDetailDTO createdUser = userService.createUser(userCreateDTO);
-        log.info("Row {}: Created user with ID: {} via UserService", rowNumber, createdUser.getId());
-        return userRepository.findByIdAndNotDeleted(createdUser.getId()).orElse(null);
+        List<List<SkillEntry>> skillEntries = rows.stream()
+                .map(row -> parseSkills(getStringValue(row.data(), COL_SKILLS)))
+                .toList();
+        createMissingSkills(skillEntries, lookups);
+
+        userBatchRepository.insertUsers(users);
+
+        List<UserSkill> userSkills = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            Set<Long> addedSkillIds = new HashSet<>();
+            for (SkillEntry entry : skillEntries.get(i)) {
+                Skill skill = lookups.get(LOOKUP_SKILL, entry.name());
+                if (!addedSkillIds.add(skill.getId())) {
+                    continue;
+                }
+
+                UserSkill userSkill = new UserSkill();
+                userSkill.setUser(users.get(i));
+                userSkill.setSkill(skill);
+                userSkill.setLevel(entry.level());
+                userSkill.setUsedYearNumber(entry.years());
+                userSkill.setCreatedAt(now);
+                userSkill.setUpdatedAt(now);
+                userSkills.add(userSkill);
+            }
+        }
+        userBatchRepository.insertUserSkills(userSkills);
+
+        int firstRow = rows.get(0).rowNumber();
+        int lastRow = rows.get(rows.size() - 1).rowNumber();
+        log.info("Inserted {} user(s) and {} user skill(s) from CSV rows {}-{}", users.size(), userSkills.size(),
+                firstRow, lastRow);
+
+        // The batch insert bypasses UserService.createUser and its CREATE_USER log, so the chunk is
+        // recorded as one event; it is queued once the chunk's transaction commits
+        activityLogRecorder.record("IMPORT_USERS", "USER", null, String.format(
+                "Imported %d user(s) from CSV rows %d-%d", users.size(), firstRow, lastRow));
+        return users;
     }
 
-    private List<UserSkillRequestDTO> processSkillsForDto(String skillsStr, int rowNumber) {
-        List<UserSkillRequestDTO> skillDTOs = new ArrayList<>();
-        String[] skillEntries = skillsStr.split("\\|");
-        
-        for (String entry : skillEntries) {
-            entry = entry.trim();
-            if (entry.isEmpty()) continue;
-            
-            String[] parts = entry.split(":");
-            if (parts.length < 2) continue;
-            
-            String skillName = parts[0].trim();
-            String levelStr = parts[1].trim();
-            BigDecimal years = parts.length >= 3 ? new BigDecimal(parts[2].trim()) : BigDecimal.ZERO;
-            
-            Optional<Skill> skillOpt = skillRepository.findByNameIgnoreCaseAndNotDeleted(skillName);
-            
-            Long skillId;
-            if (skillOpt.isEmpty()) {
+    // Skills were looked up for the whole chunk in prepareLookups, only the missing ones are created here
+    private void createMissingSkills(List<List<SkillEntry>> skillEntries, CsvLookupContext lookups) {
+        for (List<SkillEntry> entries : skillEntries) {
+            for (SkillEntry entry : entries) {
+                if (lookups.contains(LOOKUP_SKILL, entry.name())) {
+                    continue;
+                }
+
                 CreateSkillRequest createSkillRequest = CreateSkillRequest.builder()
-                        .name(skillName)
+                        .name(entry.name())
                         .description("Auto-created from CSV import")
                         .build();
                 SkillDTO createdSkill = skillService.createSkill(createSkillRequest);
-                skillId = createdSkill.getId();
-                log.info("Row {}: Created new skill '{}' with ID: {} via SkillService", rowNumber, skillName, skillId);
-            } else {
-                skillId = skillOpt.get().getId();
+                lookups.put(LOOKUP_SKILL, entry.name(), skillRepository.getReferenceById(createdSkill.getId()));
+                log.info("Created new skill '{}' with ID: {} via SkillService", entry.name(), createdSkill.getId());
             }
-            
-            UserSkillRequestDTO skillDTO = new UserSkillRequestDTO();
-            skillDTO.setSkillId(skillId);
-            skillDTO.setLevel(UserSkill.Level.valueOf(levelStr.toUpperCase()));
-            skillDTO.setUsedYearNumber(years);
-            skillDTOs.add(skillDTO);
         }
-        
-        return skillDTOs;
+    }
+
+    private List<SkillEntry> parseSkills(String skillsStr) {
+        List<SkillEntry> entries = new ArrayList<>();
+        if (isBlank(skillsStr)) {
+            return entries;
+        }
+
+        for (String entry : skillsStr.split("\\|")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) continue;
+
+            String[] parts = entry.split(":");
+            if (parts.length < 2) continue;
+
+            entries.add(new SkillEntry(
+                    parts[0].trim(),
+                    UserSkill.Level.valueOf(parts[1].trim().toUpperCase()),
+                    parts.length >= 3 ? new BigDecimal(parts[2].trim()) : BigDecimal.ZERO));
+        }
+
+        return entries;
+    }
+
+    // Every imported user gets the same default password, so it is hashed once instead of per row
+    private String getDefaultPasswordHash() {
+        String hash = defaultPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(defaultPassword);
+            defaultPasswordHash = hash;
+        }
+        return hash;
+    }
+
+    private record SkillEntry(String name, UserSkill.Level level, BigDecimal years) {
     }
 
     @Override
-    public boolean validateRow(String[] data, int rowNumber, CsvImportResult<User> result) {
-        List<String> errors = validateRowData(data);
+    protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<User> result,
+                                  CsvLookupContext lookups) {
+        List<String> errors = validateRowData(data, rowNumber, lookups);
         
         for (String error : errors) {
             result.addError(rowNumber, "Validation", error);
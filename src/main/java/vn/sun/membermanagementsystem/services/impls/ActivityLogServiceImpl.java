@@ -2,11 +2,14 @@ package vn.sun.membermanagementsystem.services.impls;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.dto.request.KeysetCursor;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.entities.ActivityLog;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
@@ -16,6 +19,7 @@ import vn.sun.membermanagementsystem.services.ActivityLogService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -45,6 +49,26 @@ public class ActivityLogServiceImpl implements ActivityLogService {
                 .map(activityLogMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<ActivityLogDTO> searchLogsBefore(String entityType, LocalDate fromDate, LocalDate toDate,
+                                                       String cursor, int size, boolean skipCount) {
+        log.info("Searching activity logs before cursor - entityType: {}, fromDate: {}, toDate: {}, skipCount: {}",
+                entityType, fromDate, toDate, skipCount);
+
+        LocalDateTime fromDateTime = fromDate != null ? fromDate.atStartOfDay() : null;
+        LocalDateTime toDateTime = toDate != null ? toDate.atTime(LocalTime.MAX) : null;
+        KeysetCursor before = KeysetCursor.decode(cursor);
+
+        List<ActivityLog> logs = activityLogRepository.searchLogsBefore(entityType, fromDateTime, toDateTime,
+                before != null ? before.keyAsDateTime() : null,
+                before != null ? before.id() : null,
+                Limit.of(size + 1));
+
+        return CursorPage.of(logs, size, activityLogMapper::toDTO,
+                activityLog -> KeysetCursor.of(activityLog.getCreatedAt(), activityLog.getId()),
+                skipCount ? null : activityLogRepository.countLogs(entityType, fromDateTime, toDateTime));
+    }
+
     @Override
     public ActivityLogDTO getLogById(Long id) {
         log.info("Getting activity log with ID: {}", id);
@@ -0,0 +1,299 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.dto.response.ImportJobDTO;
+import vn.sun.membermanagementsystem.enums.ImportJobStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.ImportJobService;
+import vn.sun.membermanagementsystem.services.csv.CsvImportProgress;
+import vn.sun.membermanagementsystem.services.csv.CsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.PositionCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.ProjectCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.SkillCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.TeamCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.UserCsvImportService;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final UserCsvImportService userCsvImportService;
+    private final TeamCsvImportService teamCsvImportService;
+    private final SkillCsvImportService skillCsvImportService;
+    private final PositionCsvImportService positionCsvImportService;
+    private final ProjectCsvImportService projectCsvImportService;
+
+    @Value("${import.jobs.dir:${java.io.tmpdir}/member-management-imports}")
+    private String storageDir;
+
+    @Value("${import.jobs.pool-size:2}")
+    private int poolSize;
+
+    @Value("${import.jobs.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${import.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private Map<String, CsvImportService<?>> importServices;
+    private Path storagePath;
+    private ThreadPoolExecutor executor;
+    private ExecutorService jobExecutor;
+
+    @PostConstruct
+    void init() throws IOException {
+        importServices = Map.of(
+                "users", userCsvImportService,
+                "teams", teamCsvImportService,
+                "skills", skillCsvImportService,
+                "positions", positionCsvImportService,
+                "projects", projectCsvImportService);
+
+        storagePath = Files.createDirectories(Path.of(storageDir));
+
+        // Bounded pool and queue: uploads beyond capacity are rejected instead of piling up
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("csv-import-", 1).factory());
+
+        // Jobs run as the admin who submitted them, so activity logs keep the right user
+        jobExecutor = new DelegatingSecurityContextExecutorService(executor);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        jobs.values().forEach(job -> job.progress.requestCancel());
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Import jobs did not stop within 30 seconds");
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public ImportJobDTO submitImport(String entityType, MultipartFile file, boolean atomic) {
+        CsvImportService<?> importService = importServices.get(entityType);
+        if (importService == null) {
+            throw new BadRequestException("Unsupported import type: " + entityType);
+        }
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Please select a CSV file to upload");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path path = storagePath.resolve(jobId + ".csv");
+        try {
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new BadRequestException("Could not store uploaded file", e);
+        }
+
+        ImportJob job = new ImportJob(jobId, entityType, file.getOriginalFilename(), atomic, path, file.getSize());
+        jobs.put(jobId, job);
+        try {
+            job.future = jobExecutor.submit(() -> runJob(job, importService));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            deleteQuietly(path);
+            throw new BadRequestException("Too many imports are in progress, please try again later");
+        }
+
+        log.info("Queued import job {} for {} from file {}", jobId, entityType, file.getOriginalFilename());
+        return toDTO(job);
+    }
+
+    @Override
+    public ImportJobDTO getJob(String jobId) {
+        return toDTO(findJob(jobId));
+    }
+
+    @Override
+    public ImportJobDTO cancelJob(String jobId) {
+        ImportJob job = findJob(jobId);
+        job.progress.requestCancel();
+
+        // A queued job never starts; a running one stops at its next chunk
+        if (job.status == ImportJobStatus.QUEUED && job.future != null && job.future.cancel(false)) {
+            job.status = ImportJobStatus.CANCELLED;
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(job.path);
+        }
+
+        log.info("Cancellation requested for import job {}", jobId);
+        return toDTO(job);
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private void runJob(ImportJob job, CsvImportService<?> importService) {
+        if (job.progress.isCancelRequested()) {
+            job.status = ImportJobStatus.CANCELLED;
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(job.path);
+            return;
+        }
+
+        job.status = ImportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        log.info("Starting import job {} for {}", job.id, job.entityType);
+
+        try {
+            CsvImportResult<?> result = importService.importFromCsvStreaming(
+                    new StoredCsvFile(job.path, job.fileName, job.size), job.atomic, job.progress);
+            job.result = result;
+            job.status = result.isCancelled() ? ImportJobStatus.CANCELLED : ImportJobStatus.COMPLETED;
+            log.info("Import job {} finished: {} imported, {} error(s)",
+                    job.id, result.getSuccessCount(), result.getErrorCount());
+        } catch (Exception e) {
+            log.error("Import job {} failed", job.id, e);
+            job.status = ImportJobStatus.FAILED;
+            job.message = e.getMessage();
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(job.path);
+        }
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private ImportJobDTO toDTO(ImportJob job) {
+        CsvImportProgress progress = job.progress;
+        CsvImportResult<?> result = job.result;
+        return ImportJobDTO.builder()
+                .jobId(job.id)
+                .entityType(job.entityType)
+                .fileName(job.fileName)
+                .atomic(job.atomic)
+                .status(job.status)
+                .phase(progress.getPhase().name())
+                .percent(progress.getPercent())
+                .rowsRead(progress.getRowsRead())
+                .successCount(progress.getSuccessCount())
+                .errorCount(progress.getErrorCount())
+                .rolledBack(result != null && result.isRolledBack())
+                .errorsTruncated(result != null && result.isErrorsTruncated())
+                .errors(progress.getErrors())
+                .message(job.message)
+                .createdAt(job.createdAt)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .build();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static class ImportJob {
+        final String id;
+        final String entityType;
+        final String fileName;
+        final boolean atomic;
+        final Path path;
+        final long size;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final CsvImportProgress progress = new CsvImportProgress();
+
+        volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+        volatile Future<?> future;
+        volatile CsvImportResult<?> result;
+        volatile String message;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, String entityType, String fileName, boolean atomic, Path path, long size) {
+            this.id = id;
+            this.entityType = entityType;
+            this.fileName = fileName;
+            this.atomic = atomic;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    // Upload stored on local disk, read back through the same API as a regular multipart upload
+    private record StoredCsvFile(Path path, String fileName, long size) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/csv";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
@@ -16,8 +16,10 @@ import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.PositionMapper;
 import vn.sun.membermanagementsystem.repositories.PositionRepository;
 import vn.sun.membermanagementsystem.services.PositionService;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +29,7 @@ public class PositionServiceImpl implements PositionService {
     
     private final PositionRepository positionRepository;
     private final PositionMapper positionMapper;
+    private final ReferenceDataCache referenceDataCache;
     
     @Override
     public Page<PositionDTO> getAllPositions(Pageable pageable) {
@@ -34,6 +37,16 @@ public class PositionServiceImpl implements PositionService {
         Page<Position> positions = positionRepository.findAllActive(pageable);
         return positions.map(positionMapper::toDTO);
     }
+
+    @Override
+    public List<PositionDTO> getAllPositions() {
+        return referenceDataCache.get(ReferenceDataCache.Region.POSITIONS, () -> {
+            log.info("Getting all positions");
+            return positionRepository.findAllNotDeleted().stream()
+                    .map(positionMapper::toDTO)
+                    .toList();
+        });
+    }
     
     @Override
     public PositionDTO getPositionById(Long id) {
@@ -53,6 +66,7 @@ public class PositionServiceImpl implements PositionService {
         
         Position position = positionMapper.toEntity(request);
         Position savedPosition = positionRepository.save(position);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.POSITIONS);
         
         log.info("Position created successfully with id: {}", savedPosition.getId());
         return positionMapper.toDTO(savedPosition);
@@ -71,6 +85,7 @@ public class PositionServiceImpl implements PositionService {
         
         positionMapper.updateEntity(request, position);
         Position updatedPosition = positionRepository.save(position);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.POSITIONS);
         
         log.info("Position updated successfully with id: {}", id);
         return positionMapper.toDTO(updatedPosition);
@@ -87,6 +102,7 @@ public class PositionServiceImpl implements PositionService {
         
         position.setDeletedAt(LocalDateTime.now());
         positionRepository.save(position);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.POSITIONS);
         
         log.info("Position deleted successfully with id: {}", id);
     }
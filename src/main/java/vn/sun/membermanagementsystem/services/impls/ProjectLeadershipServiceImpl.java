@@ -24,13 +24,8 @@ public class ProjectLeadershipServiceImpl implements ProjectLeadershipService {
     private final TeamMemberRepository teamMemberRepo;
 
     @Transactional
-    public void endAllLeadership(Project project) {
-        project.getLeadershipHistory().stream()
-                .filter(h -> h.getEndedAt() == null)
-                .forEach(h -> {
-                    h.setEndedAt(LocalDateTime.now());
-                    leadershipRepo.save(h);
-                });
+    public int endAllLeadership(Project project) {
+        return leadershipRepo.endActiveByProjectId(project.getId(), LocalDateTime.now());
     }
 
     @Transactional
@@ -30,21 +30,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
     @Override
     @Transactional
-    public void removeAllMembers(Project project) {
-        List<ProjectMember> activeMembers = projectMemberRepo.findByProjectAndStatus(project, ProjectMember.MemberStatus.ACTIVE);
-
-        if (activeMembers.isEmpty()) {
-            return;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-
-        activeMembers.forEach(pm -> {
-            pm.setStatus(ProjectMember.MemberStatus.INACTIVE);
-            pm.setLeftAt(now);
-        });
-
-        projectMemberRepo.saveAll(activeMembers);
+    public int removeAllMembers(Project project) {
+        return projectMemberRepo.deactivateByProjectId(project.getId(), LocalDateTime.now(),
+                ProjectMember.MemberStatus.ACTIVE, ProjectMember.MemberStatus.INACTIVE);
     }
 
     @Override
@@ -20,6 +20,10 @@ import vn.sun.membermanagementsystem.services.ProjectLeadershipService;
 import vn.sun.membermanagementsystem.services.ProjectMemberService;
 import vn.sun.membermanagementsystem.services.ProjectService;
 import vn.sun.membermanagementsystem.services.TeamService;
+import vn.sun.membermanagementsystem.services.cascade.SoftDeleteCascade;
+import vn.sun.membermanagementsystem.services.projectstatus.ProjectStatusEngine;
+import vn.sun.membermanagementsystem.services.projectstatus.ProjectStatusJob;
+import vn.sun.membermanagementsystem.services.projectstatus.ProjectStatusTimer;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,17 +40,12 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectMemberService membershipService;
     private final ProjectLeadershipService leadershipService;
+    private final ProjectStatusJob projectStatusJob;
+    private final ProjectStatusTimer projectStatusTimer;
+    private final SoftDeleteCascade softDeleteCascade;
 
     private Project.ProjectStatus calculateStatus(LocalDate startDate, LocalDate endDate) {
-        LocalDate now = LocalDate.now();
-
-        if (endDate != null && !now.isBefore(endDate)) {
-            return Project.ProjectStatus.COMPLETED;
-        }
-        if (!now.isBefore(startDate)) {
-            return Project.ProjectStatus.ONGOING;
-        }
-        return Project.ProjectStatus.PLANNING;
+        return ProjectStatusEngine.statusOn(startDate, endDate, LocalDate.now());
     }
 
     @Override
@@ -82,6 +81,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         project = projectRepo.save(project);
+        projectStatusTimer.reschedule(project.getId(), project.getStartDate(), project.getEndDate());
 
         handleProjectContextMembersOnly(project, request.getLeaderId(), request.getMemberIds());
 
@@ -111,6 +111,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         project = projectRepo.save(project);
+        projectStatusTimer.reschedule(project.getId(), project.getStartDate(), project.getEndDate());
 
         handleProjectContextMembersOnly(project, request.getLeaderId(), request.getMemberIds());
         return projectMapper.toDTO(project);
@@ -167,7 +168,6 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional
-    @LogActivity(action = "CANCEL_PROJECT", entityType = "PROJECT", description = "Cancel project and deactivate members")
     public void cancelProject(Long id) {
         Project project = projectRepo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
@@ -179,33 +179,15 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.setStatus(Project.ProjectStatus.CANCELLED);
         project.setDeletedAt(java.time.LocalDateTime.now());
-        leadershipService.endAllLeadership(project);
-
-        membershipService.removeAllMembers(project);
-
         projectRepo.save(project);
+
+        // Ends the leadership and memberships and records the cancellation as one activity
+        softDeleteCascade.cancelProject(project);
+        projectStatusTimer.cancel(project.getId());
     }
 
-    @Transactional
     @Override
     public void updateAllProjectStatuses() {
-        List<Project> activeProjects = projectRepo.findAll().stream()
-                .filter(p -> p.getStatus() != Project.ProjectStatus.CANCELLED)
-                .toList();
-
-        int count = 0;
-        for (Project project : activeProjects) {
-            Project.ProjectStatus newStatus = calculateStatus(project.getStartDate(), project.getEndDate());
-
-            if (project.getStatus() != newStatus) {
-                log.info("Auto-updating project ID {} from {} to {}", project.getId(), project.getStatus(), newStatus);
-                project.setStatus(newStatus);
-                projectRepo.save(project);
-                count++;
-            }
-        }
-        if (count > 0) {
-            log.info("Scheduler updated status for {} projects.", count);
-        }
+        projectStatusJob.run(LocalDate.now());
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.SkillMapper;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
 import vn.sun.membermanagementsystem.services.SkillService;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
 
 import java.time.LocalDateTime;
 
@@ -29,6 +30,7 @@ public class SkillServiceImpl implements SkillService {
     
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final ReferenceDataCache referenceDataCache;
     
     @Override
     @Transactional(readOnly = true)
@@ -40,11 +42,13 @@ public class SkillServiceImpl implements SkillService {
     @Override
     @Transactional(readOnly = true)
     public List<SkillDTO> getAllSkills() {
-        log.info("Getting all skills");
-        List<Skill> skills = skillRepository.findAllNotDeleted();
-        return skills.stream()
-                .map(skillMapper::toDTO)
-                .collect(Collectors.toList());
+        return referenceDataCache.get(ReferenceDataCache.Region.SKILLS, () -> {
+            log.info("Getting all skills");
+            List<Skill> skills = skillRepository.findAllNotDeleted();
+            return skills.stream()
+                    .map(skillMapper::toDTO)
+                    .collect(Collectors.toList());
+        });
     }
     
     @Override
@@ -66,6 +70,7 @@ public class SkillServiceImpl implements SkillService {
         
         Skill skill = skillMapper.toEntity(request);
         Skill savedSkill = skillRepository.save(skill);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.SKILLS);
         return skillMapper.toDTO(savedSkill);
     }
     
@@ -83,6 +88,7 @@ public class SkillServiceImpl implements SkillService {
         
         skillMapper.updateEntity(request, skill);
         Skill updatedSkill = skillRepository.save(skill);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.SKILLS);
         return skillMapper.toDTO(updatedSkill);
     }
     
@@ -95,6 +101,7 @@ public class SkillServiceImpl implements SkillService {
         
         skill.setDeletedAt(LocalDateTime.now());
         skillRepository.save(skill);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.SKILLS);
     }
         
 }
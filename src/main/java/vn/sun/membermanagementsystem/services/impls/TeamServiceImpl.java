@@ -2,19 +2,24 @@ package vn.sun.membermanagementsystem.services.impls;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import vn.sun.membermanagementsystem.annotation.LogActivity;
 import vn.sun.membermanagementsystem.dto.request.CreateTeamRequest;
+import vn.sun.membermanagementsystem.dto.request.KeysetCursor;
 import vn.sun.membermanagementsystem.dto.request.UpdateTeamRequest;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamDetailDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamLeaderDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamStatisticsDTO;
 import vn.sun.membermanagementsystem.dto.response.UserSelectionDTO;
 import vn.sun.membermanagementsystem.entities.Team;
+import vn.sun.membermanagementsystem.entities.TeamLeadershipHistory;
 import vn.sun.membermanagementsystem.entities.TeamMember;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.enums.MembershipStatus;
@@ -22,14 +27,21 @@ import vn.sun.membermanagementsystem.exception.BadRequestException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.TeamMapper;
 import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
+import vn.sun.membermanagementsystem.repositories.TeamLeadershipHistoryRepository;
 import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.TeamLeadershipService;
 import vn.sun.membermanagementsystem.services.TeamService;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
+import vn.sun.membermanagementsystem.services.cascade.SoftDeleteCascade;
+import vn.sun.membermanagementsystem.services.membership.BulkMembershipEngine;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,18 +54,30 @@ public class TeamServiceImpl implements TeamService {
     private final TeamLeadershipService teamLeadershipService;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final TeamLeadershipHistoryRepository teamLeadershipHistoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final BulkMembershipEngine bulkMembershipEngine;
+    private final SoftDeleteCascade softDeleteCascade;
 
     public TeamServiceImpl(
             TeamRepository teamRepository,
             TeamMapper teamMapper,
             @Lazy TeamLeadershipService teamLeadershipService,
             TeamMemberRepository teamMemberRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            TeamLeadershipHistoryRepository teamLeadershipHistoryRepository,
+            ReferenceDataCache referenceDataCache,
+            BulkMembershipEngine bulkMembershipEngine,
+            SoftDeleteCascade softDeleteCascade) {
         this.teamRepository = teamRepository;
         this.teamMapper = teamMapper;
         this.teamLeadershipService = teamLeadershipService;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
+        this.teamLeadershipHistoryRepository = teamLeadershipHistoryRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.bulkMembershipEngine = bulkMembershipEngine;
+        this.softDeleteCascade = softDeleteCascade;
     }
 
     @Override
@@ -95,6 +119,7 @@ public class TeamServiceImpl implements TeamService {
         team.setUpdatedAt(LocalDateTime.now());
 
         Team savedTeam = teamRepository.save(team);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.TEAMS);
         log.info("Team created successfully with ID: {}", savedTeam.getId());
 
         if (request.getLeaderId() != null) {
@@ -139,13 +164,13 @@ public class TeamServiceImpl implements TeamService {
         team.setUpdatedAt(LocalDateTime.now());
 
         Team updatedTeam = teamRepository.save(team);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.TEAMS);
         log.info("Team updated successfully with ID: {}", updatedTeam.getId());
 
         return teamMapper.toDTO(updatedTeam);
     }
 
     @Transactional
-    @LogActivity(action = "DELETE_TEAM", entityType = "TEAM", description = "Delete team")
     public boolean deleteTeam(Long id) {
         log.info("Soft deleting team with ID: {}", id);
 
@@ -161,21 +186,6 @@ public class TeamServiceImpl implements TeamService {
             throw new BadRequestException("Cannot delete team with active projects.");
         }
 
-        TeamLeaderDTO currentLeader = teamLeadershipService.getCurrentLeader(id);
-        if (currentLeader != null) {
-            teamLeadershipService.removeLeader(id);
-            log.info("Removed leader from team ID: {}", id);
-        }
-
-        List<TeamMember> activeMembers = teamMemberRepository.findByTeamIdAndLeftAtIsNull(id);
-        LocalDateTime now = LocalDateTime.now();
-        for (TeamMember member : activeMembers) {
-            member.setLeftAt(now);
-            member.setStatus(MembershipStatus.INACTIVE);
-            teamMemberRepository.save(member);
-            log.info("Removed member {} from team {}", member.getUser().getId(), id);
-        }
-
         // Rename team with .deleted suffix before soft delete
         String originalName = team.getName();
         if (!originalName.endsWith(".deleted")) {
@@ -185,6 +195,10 @@ public class TeamServiceImpl implements TeamService {
         // Perform soft delete
         team.setDeletedAt(LocalDateTime.now());
         teamRepository.save(team);
+        referenceDataCache.invalidate(ReferenceDataCache.Region.TEAMS);
+
+        // Ends the leadership and memberships and records the deletion as one activity
+        softDeleteCascade.deleteTeam(id);
 
         log.info("Team soft deleted successfully with ID: {}, renamed to: {}", id, team.getName());
         return true;
@@ -216,10 +230,12 @@ public class TeamServiceImpl implements TeamService {
     @Override
     @Transactional(readOnly = true)
     public List<TeamDTO> getAllTeams() {
-        log.info("Getting all teams");
+        return referenceDataCache.get(ReferenceDataCache.Region.TEAMS, () -> {
+            log.info("Getting all teams");
 
-        List<Team> teams = teamRepository.findAllNotDeleted();
-        return teamMapper.toDTOList(teams);
+            List<Team> teams = teamRepository.findAllNotDeleted();
+            return teamMapper.toDTOList(teams);
+        });
     }
 
     @Override
@@ -230,25 +246,64 @@ public class TeamServiceImpl implements TeamService {
 
         Page<Team> teamPage = teamRepository.findAllByKeyword(keyword, pageable);
 
-        return teamPage.map(team -> {
-            TeamDTO dto = teamMapper.toDTO(team);
+        // Counts and leaders for the whole page are loaded up front, one query each
+        List<Long> teamIds = teamPage.getContent().stream().map(Team::getId).toList();
+        Map<Long, Long> memberCounts = countActiveMembersByTeam(teamIds);
+        Map<Long, TeamLeaderDTO> currentLeaders = findCurrentLeadersByTeam(teamIds);
 
-            team.getLeadershipHistory().stream()
-                    .filter(lh -> lh.getEndedAt() == null)
-                    .findFirst()
-                    .ifPresent(lh -> {
-                        TeamLeaderDTO leaderDTO = new TeamLeaderDTO();
-                        leaderDTO.setUserId(lh.getLeader().getId());
-                        leaderDTO.setName(lh.getLeader().getName());
-                        leaderDTO.setStartedAt(lh.getStartedAt());
-                        dto.setCurrentLeader(leaderDTO);
-                    });
-
-            long memberCount = teamRepository.countActiveMembers(team.getId());
-            dto.setMemberCount((int) memberCount);
-
-            return dto;
-        });
+        return teamPage.map(team -> toTeamDTO(team, memberCounts, currentLeaders));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TeamDTO> getTeamsAfter(String keyword, String cursor, int size, boolean skipCount) {
+        log.info("Getting teams after cursor: size {}, keyword: {}, skipCount: {}", size, keyword, skipCount);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Team> teams = teamRepository.findAllByKeywordAfter(keyword,
+                after != null ? after.key() : null,
+                after != null ? after.id() : null,
+                Limit.of(size + 1));
+
+        List<Long> teamIds = teams.stream().map(Team::getId).toList();
+        Map<Long, Long> memberCounts = countActiveMembersByTeam(teamIds);
+        Map<Long, TeamLeaderDTO> currentLeaders = findCurrentLeadersByTeam(teamIds);
+
+        return CursorPage.of(teams, size,
+                team -> toTeamDTO(team, memberCounts, currentLeaders),
+                team -> KeysetCursor.of(team.getName(), team.getId()),
+                skipCount ? null : teamRepository.countByKeyword(keyword));
+    }
+
+    private TeamDTO toTeamDTO(Team team, Map<Long, Long> memberCounts, Map<Long, TeamLeaderDTO> currentLeaders) {
+        TeamDTO dto = teamMapper.toDTO(team);
+        dto.setCurrentLeader(currentLeaders.get(team.getId()));
+        dto.setMemberCount(memberCounts.getOrDefault(team.getId(), 0L).intValue());
+        return dto;
+    }
+
+    private Map<Long, Long> countActiveMembersByTeam(List<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        return teamRepository.countActiveMembersByTeamIds(teamIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    private Map<Long, TeamLeaderDTO> findCurrentLeadersByTeam(List<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, TeamLeaderDTO> leaders = new HashMap<>();
+        for (TeamLeadershipHistory lh : teamLeadershipHistoryRepository.findActiveLeadersByTeamIds(teamIds)) {
+            TeamLeaderDTO leaderDTO = new TeamLeaderDTO();
+            leaderDTO.setUserId(lh.getLeader().getId());
+            leaderDTO.setName(lh.getLeader().getName());
+            leaderDTO.setStartedAt(lh.getStartedAt());
+            leaders.putIfAbsent(lh.getTeam().getId(), leaderDTO);
+        }
+        return leaders;
     }
 
     @Override
@@ -256,52 +311,27 @@ public class TeamServiceImpl implements TeamService {
     public TeamStatisticsDTO getTeamStatistics(Long teamId) {
         log.info("Getting statistics for team ID: {}", teamId);
 
-        Team team = teamRepository.findByIdAndNotDeleted(teamId)
+        TeamStatisticsDTO stats = teamRepository.findStatisticsByTeamId(teamId)
                 .orElseThrow(() -> {
                     log.error("Team not found with ID: {}", teamId);
                     return new ResourceNotFoundException("Team not found with ID: " + teamId);
                 });
 
-        TeamStatisticsDTO stats = new TeamStatisticsDTO();
-        stats.setTeamId(team.getId());
-        stats.setTeamName(team.getName());
-
-        // Get all member statistics
-        long activeMembersCount = teamRepository.countActiveMembers(teamId);
-        stats.setActiveMembers((int) activeMembersCount);
-
-        // Calculate total and inactive members from team memberships
-        long totalMembersCount = team.getTeamMemberships().stream()
-                .filter(tm -> tm.getLeftAt() == null)
-                .count();
-        stats.setTotalMembers((int) totalMembersCount);
-        stats.setInactiveMembers((int) (totalMembersCount - activeMembersCount));
-
-        // Get all project statistics
-        long totalProjectsCount = teamRepository.countAllProjects(teamId);
-        long activeProjectsCount = teamRepository.countActiveProjects(teamId);
-        long completedProjectsCount = teamRepository.countCompletedProjects(teamId);
-
-        stats.setTotalProjects((int) totalProjectsCount);
-        stats.setActiveProjects((int) activeProjectsCount);
-        stats.setCompletedProjects((int) completedProjectsCount);
-
-        // Get current leader
-        team.getLeadershipHistory().stream()
-                .filter(lh -> lh.getEndedAt() == null)
-                .findFirst()
-                .ifPresent(lh -> {
-                    TeamLeaderDTO leaderDTO = new TeamLeaderDTO();
-                    leaderDTO.setUserId(lh.getLeader().getId());
-                    leaderDTO.setName(lh.getLeader().getName());
-                    leaderDTO.setStartedAt(lh.getStartedAt());
-                    stats.setCurrentLeader(leaderDTO);
-                });
-
         log.info("Team statistics retrieved successfully for ID: {}", teamId);
         return stats;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamStatisticsDTO> getTeamStatistics(Collection<Long> teamIds) {
+        log.info("Getting statistics for {} teams", teamIds.size());
+
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        return teamRepository.findStatisticsByTeamIds(teamIds);
+    }
+
     private void handleLeaderChange(Long teamId, Long newLeaderId) {
         log.info("Handling leader change for team {}", teamId);
 
@@ -366,7 +396,7 @@ public class TeamServiceImpl implements TeamService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     @LogActivity(action = "ADD_MEMBERS_TO_TEAM", entityType = "TEAM", description = "Add multiple members to team")
-    public int addMembersToTeam(Long teamId, List<Long> userIds) {
+    public BulkMemberAddResultDTO addMembersToTeam(Long teamId, List<Long> userIds) {
         log.info("Adding {} users to team {}", userIds.size(), teamId);
 
         Team team = teamRepository.findByIdAndNotDeleted(teamId)
@@ -375,49 +405,16 @@ public class TeamServiceImpl implements TeamService {
                     return new ResourceNotFoundException("Team not found with ID: " + teamId);
                 });
 
-        int addedCount = 0;
-        StringBuilder errors = new StringBuilder();
-
-        for (Long userId : userIds) {
-            try {
-                User user = userRepository.findByIdAndNotDeleted(userId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
-
-                TeamMember existingMembership = teamMemberRepository.findActiveTeamByUserId(userId);
-                if (existingMembership != null) {
-                    if (existingMembership.getTeam().getId().equals(teamId)) {
-                        log.warn("User {} is already an active member of team {}", userId, teamId);
-                        errors.append(String.format("%s is already a member; ", user.getName()));
-                        continue;
-                    } else {
-                        log.warn("User {} is already an active member of another team", userId);
-                        errors.append(String.format("%s is in another team; ", user.getName()));
-                        continue;
-                    }
-                }
-
-                TeamMember newMembership = new TeamMember();
-                newMembership.setUser(user);
-                newMembership.setTeam(team);
-                newMembership.setStatus(MembershipStatus.ACTIVE);
-                newMembership.setJoinedAt(LocalDateTime.now());
-
-                teamMemberRepository.save(newMembership);
-                addedCount++;
-                log.info("User {} successfully added to team {}", userId, teamId);
-
-            } catch (ResourceNotFoundException e) {
-                log.warn("User {} not found, skipping", userId);
-                errors.append(String.format("User ID %d not found; ", userId));
-            }
-        }
+        BulkMemberAddResultDTO result = bulkMembershipEngine.addMembers(team, userIds);
 
-        if (addedCount == 0 && !userIds.isEmpty()) {
-            throw new BadRequestException("No users were added. " + errors.toString().trim());
+        if (result.getAddedCount() == 0 && !userIds.isEmpty()) {
+            String errors = result.getOutcomes().stream()
+                    .map(BulkMemberAddResultDTO.MemberOutcome::getMessage)
+                    .collect(Collectors.joining("; "));
+            throw new BadRequestException("No users were added. " + errors);
         }
 
-        log.info("Successfully added {} out of {} users to team {}", addedCount, userIds.size(), teamId);
-        return addedCount;
+        return result;
     }
 
     @Override
@@ -467,25 +464,50 @@ public class TeamServiceImpl implements TeamService {
 
         Page<TeamMember> memberPage = teamMemberRepository.findActiveTeamMembersByTeamId(teamId, pageable);
 
-        return memberPage.map(tm -> {
-            User user = tm.getUser();
-            String positionName = null;
+        return memberPage.map(this::toTeamMemberDTO);
+    }
 
-            if (user.getPositionHistories() != null && !user.getPositionHistories().isEmpty()) {
-                positionName = user.getPositionHistories().stream()
-                        .filter(ph -> ph.getEndedAt() == null && ph.getPosition() != null)
-                        .findFirst()
-                        .map(ph -> ph.getPosition().getName())
-                        .orElse(null);
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TeamDetailDTO.TeamMemberDTO> getTeamMembersBefore(Long teamId, String cursor, int size,
+            boolean skipCount) {
+        log.info("Getting team members before cursor for team ID: {}, size: {}, skipCount: {}", teamId, size, skipCount);
 
-            return TeamDetailDTO.TeamMemberDTO.builder()
-                    .userId(user.getId())
-                    .name(user.getName())
-                    .email(user.getEmail())
-                    .position(positionName)
-                    .joinedAt(tm.getJoinedAt())
-                    .build();
-        });
+        teamRepository.findByIdAndNotDeleted(teamId)
+                .orElseThrow(() -> {
+                    log.error("Team not found with ID: {}", teamId);
+                    return new ResourceNotFoundException("Team not found with ID: " + teamId);
+                });
+
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        List<TeamMember> members = teamMemberRepository.findActiveTeamMembersByTeamIdBefore(teamId,
+                before != null ? before.keyAsDateTime() : null,
+                before != null ? before.id() : null,
+                Limit.of(size + 1));
+
+        return CursorPage.of(members, size, this::toTeamMemberDTO,
+                tm -> KeysetCursor.of(tm.getJoinedAt(), tm.getId()),
+                skipCount ? null : teamMemberRepository.countActiveTeamMembersByTeamId(teamId));
+    }
+
+    private TeamDetailDTO.TeamMemberDTO toTeamMemberDTO(TeamMember tm) {
+        User user = tm.getUser();
+        String positionName = null;
+
+        if (user.getPositionHistories() != null && !user.getPositionHistories().isEmpty()) {
+            positionName = user.getPositionHistories().stream()
+                    .filter(ph -> ph.getEndedAt() == null && ph.getPosition() != null)
+                    .findFirst()
+                    .map(ph -> ph.getPosition().getName())
+                    .orElse(null);
+        }
+
+        return TeamDetailDTO.TeamMemberDTO.builder()
+                .userId(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .position(positionName)
+                .joinedAt(tm.getJoinedAt())
+                .build();
     }
 }
@@ -9,6 +9,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import vn.sun.membermanagementsystem.annotation.LogActivity;
+import vn.sun.membermanagementsystem.config.jwt.TokenDenyList;
+import vn.sun.membermanagementsystem.config.security.UserDetailsCache;
 import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
 import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
 import vn.sun.membermanagementsystem.dto.request.UserUpdateDTO;
@@ -22,9 +24,13 @@ import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.UserMapper;
 import vn.sun.membermanagementsystem.repositories.*;
 import vn.sun.membermanagementsystem.services.UserService;
+import vn.sun.membermanagementsystem.services.cascade.SoftDeleteCascade;
+import vn.sun.membermanagementsystem.services.loader.UserProfileLoader;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,6 +43,10 @@ public class UserServiceImpl implements UserService {
     private final SkillRepository skillRepository;
     private final UserPositionHistoryRepository userPositionHistoryRepository;
     private final UserSkillRepository userSkillRepository;
+    private final TokenDenyList tokenDenyList;
+    private final UserDetailsCache userDetailsCache;
+    private final UserProfileLoader userProfileLoader;
+    private final SoftDeleteCascade softDeleteCascade;
 
     @Value("${default.user.password:123456}")
     private String defaultPassword;
@@ -111,12 +121,7 @@ public class UserServiceImpl implements UserService {
             log.info("Skills added for user ID: {}, count: {}", savedUser.getId(), userCreateDTO.getSkills().size());
         }
 
-        // Reload user with all associations for complete DTO
-        userRepository.findByIdWithProjects(savedUser.getId());
-        userRepository.findByIdWithPositionHistories(savedUser.getId());
-        userRepository.findByIdWithSkills(savedUser.getId());
-
-        return userMapper.toProfileDetailDTO(savedUser);
+        return loadProfileDetail(savedUser.getId());
     }
 
     @Override
@@ -131,6 +136,12 @@ public class UserServiceImpl implements UserService {
                     return new ResourceNotFoundException("User not found with ID: " + userUpdateDTO.getId());
                 });
 
+        // Issued tokens carry the email and role, so they are revoked when access-related fields change
+        UserRole previousRole = user.getRole();
+        UserStatus previousStatus = user.getStatus();
+        String previousEmail = user.getEmail();
+        boolean passwordChanged = false;
+
         if (userUpdateDTO.getName() != null) {
             user.setName(userUpdateDTO.getName());
         }
@@ -150,6 +161,7 @@ public class UserServiceImpl implements UserService {
                 throw new IllegalArgumentException("Password must be at least 6 characters");
             }
             user.setPasswordHash(passwordEncoder.encode(userUpdateDTO.getPassword()));
+            passwordChanged = true;
         }
 
         if (userUpdateDTO.getBirthday() != null) {
@@ -168,6 +180,13 @@ public class UserServiceImpl implements UserService {
         User updatedUser = userRepository.save(user);
         log.info("User basic info updated successfully with ID: {}", updatedUser.getId());
 
+        if (passwordChanged || user.getRole() != previousRole || user.getStatus() != previousStatus
+                || !user.getEmail().equals(previousEmail)) {
+            tokenDenyList.revokeUser(user.getId());
+        }
+        userDetailsCache.removeUserFromCache(previousEmail);
+        userDetailsCache.removeUserFromCache(user.getEmail());
+
         // Cập nhật Position nếu có thay đổi
         if (userUpdateDTO.getPositionId() != null) {
             // Kết thúc position history hiện tại
@@ -219,17 +238,11 @@ public class UserServiceImpl implements UserService {
             }
         }
 
-        // Reload user with all associations for complete DTO
-        userRepository.findByIdWithProjects(updatedUser.getId());
-        userRepository.findByIdWithPositionHistories(updatedUser.getId());
-        userRepository.findByIdWithSkills(updatedUser.getId());
-
-        return userMapper.toProfileDetailDTO(updatedUser);
+        return loadProfileDetail(updatedUser.getId());
     }
 
     @Override
     @Transactional
-    @LogActivity(action = "DELETE_USER", entityType = "USER", description = "Delete user")
     public boolean deleteUser(Long userId) {
         log.info("Deleting user with ID: {}", userId);
 
@@ -241,6 +254,10 @@ public class UserServiceImpl implements UserService {
 
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        // Ends the user's memberships and leaderships and records the deletion as one activity
+        softDeleteCascade.deleteUser(userId);
+        tokenDenyList.revokeUser(userId);
+        userDetailsCache.removeUserFromCache(user.getEmail());
 
         log.info("User deleted successfully with ID: {}", userId);
         return true;
@@ -251,18 +268,7 @@ public class UserServiceImpl implements UserService {
     public UserProfileDetailDTO getUserDetailById(Long userId) {
         log.info("Getting user detail with ID: {}", userId);
 
-        User user = userRepository.findByIdAndNotDeleted(userId)
-                .orElseThrow(() -> {
-                    log.error("User not found with ID: {}", userId);
-                    return new ResourceNotFoundException("User not found with ID: " + userId);
-                });
-
-        userRepository.findByIdWithTeams(userId);
-        userRepository.findByIdWithProjects(userId);
-        userRepository.findByIdWithPositionHistories(userId);
-        userRepository.findByIdWithSkills(userId);
-
-        return userMapper.toProfileDetailDTO(user);
+        return loadProfileDetail(userId);
     }
 
     @Override
@@ -270,17 +276,11 @@ public class UserServiceImpl implements UserService {
     public UserUpdateDTO getUserFormById(Long userId) {
         log.info("Getting user form data with ID: {}", userId);
 
-        User user = userRepository.findByIdAndNotDeleted(userId)
+        return userProfileLoader.loadForm(userId)
                 .orElseThrow(() -> {
                     log.error("User not found with ID: {}", userId);
                     return new ResourceNotFoundException("User not found with ID: " + userId);
                 });
-
-        userRepository.findByIdWithTeams(userId);
-        userRepository.findByIdWithPositionHistories(userId);
-        userRepository.findByIdWithSkills(userId);
-
-        return userMapper.toUpdateDTO(user);
     }
 
     @Override
@@ -330,8 +330,7 @@ public class UserServiceImpl implements UserService {
         log.info("Getting all users for list with pagination: page={}, size={}", pageable.getPageNumber(),
                 pageable.getPageSize());
 
-        Page<User> users = userRepository.findAllNotDeleted(pageable);
-        return users.map(userMapper::toListItemDTO);
+        return userRepository.searchUserListItems(null, null, null, null, null, pageable);
     }
 
     @Override
@@ -340,8 +339,9 @@ public class UserServiceImpl implements UserService {
         log.info("Searching users for list with keyword={}, status={}, role={}, page={}, size={}",
                 keyword, status, role, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<User> users = userRepository.searchUsers(keyword, status, role, pageable);
-        return users.map(userMapper::toListItemDTO);
+        SearchKeyword search = SearchKeyword.of(keyword);
+        return userRepository.searchUserListItems(search.fullTextQuery(), search.likeKeyword(), status, role, null,
+                pageable);
     }
 
     @Override
@@ -351,7 +351,47 @@ public class UserServiceImpl implements UserService {
         log.info("Searching users for list with keyword={}, status={}, role={}, teamId={}, page={}, size={}",
                 keyword, status, role, teamId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<User> users = userRepository.searchUsersWithTeam(keyword, status, role, teamId, pageable);
-        return users.map(userMapper::toListItemDTO);
+        SearchKeyword search = SearchKeyword.of(keyword);
+        return userRepository.searchUserListItems(search.fullTextQuery(), search.likeKeyword(), status, role, teamId,
+                pageable);
+    }
+
+    private UserProfileDetailDTO loadProfileDetail(Long userId) {
+        return userProfileLoader.loadDetail(userId)
+                .orElseThrow(() -> {
+                    log.error("User not found with ID: {}", userId);
+                    return new ResourceNotFoundException("User not found with ID: " + userId);
+                });
+    }
+
+    /**
+     * Splits the keyword into words and requires each as a phrase in the ngram FULLTEXT index on
+     * name and email, which matches them anywhere inside a word. Words shorter than one ngram
+     * cannot be found through the index, so when the keyword has any of those the whole keyword is
+     * also matched with LIKE, on the rows the index already narrowed down.
+     */
+    private record SearchKeyword(String fullTextQuery, String likeKeyword) {
+
+        // MySQL ngram_token_size default
+        private static final int NGRAM_TOKEN_SIZE = 2;
+        private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+        static SearchKeyword of(String keyword) {
+            if (keyword == null || keyword.isBlank()) {
+                return new SearchKeyword(null, null);
+            }
+
+            List<String> words = WORD_SEPARATOR.splitAsStream(keyword)
+                    .filter(word -> !word.isEmpty())
+                    .toList();
+            String fullTextQuery = words.stream()
+                    .filter(word -> word.length() >= NGRAM_TOKEN_SIZE)
+                    .map(word -> "+\"" + word + "\"")
+                    .collect(Collectors.joining(" "));
+            boolean hasShortWord = words.isEmpty()
+                    || words.stream().anyMatch(word -> word.length() < NGRAM_TOKEN_SIZE);
+            return new SearchKeyword(fullTextQuery.isEmpty() ? null : fullTextQuery,
+                    hasShortWord ? keyword.trim() : null);
+        }
     }
 }
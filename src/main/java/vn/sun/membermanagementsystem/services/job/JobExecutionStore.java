@@ -0,0 +1,92 @@
+package vn.sun.membermanagementsystem.services.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.entities.JobExecution;
+import vn.sun.membermanagementsystem.repositories.JobExecutionRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Coordinates chunked background jobs between nodes through the Job_Executions table. A node
+ * first takes the lease of a run with {@link #acquire}, then calls {@link #runChunk} until the job
+ * reports it is done. Each chunk runs in its own short transaction together with the lease renewal
+ * and the checkpoint, so a crashed node leaves the run at its last committed chunk and another node
+ * resumes from there once the lease has expired.
+ * Leases are compared with the node clocks, so they must be longer than the clock skew between nodes.
+ */
+@Slf4j
+@Component
+public class JobExecutionStore {
+
+    @FunctionalInterface
+    public interface Chunk {
+        /**
+         * Processes the next chunk after {@code checkpoint}, which is null on the first call of a run.
+         */
+        ChunkResult process(String checkpoint);
+    }
+
+    public record ChunkResult(String checkpoint, int processed, boolean done) {
+    }
+
+    private final JobExecutionRepository jobExecutionRepository;
+    private final String owner;
+
+    public JobExecutionStore(JobExecutionRepository jobExecutionRepository) {
+        this.jobExecutionRepository = jobExecutionRepository;
+        // pid@host plus a random suffix, so two instances on one host never share leases
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Returns the execution id when this node now holds the lease of the run, or empty when the run
+     * is already completed or another node holds an unexpired lease.
+     */
+    @Transactional
+    public Optional<Long> acquire(String jobName, String runKey, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        jobExecutionRepository.insertIfAbsent(jobName, runKey, now);
+
+        if (jobExecutionRepository.acquireLease(jobName, runKey, owner, now.plus(lease), now) == 0) {
+            return Optional.empty();
+        }
+        return jobExecutionRepository.findByJobNameAndRunKey(jobName, runKey).map(JobExecution::getId);
+    }
+
+    /**
+     * Runs one chunk and stores its checkpoint. Returns true when the job has more chunks to run,
+     * false when it is done or this node has lost the lease.
+     */
+    @Transactional
+    public boolean runChunk(Long executionId, Duration lease, Chunk chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobExecutionRepository.renewLease(executionId, owner, now.plus(lease), now) == 0) {
+            log.warn("Lost the lease of job execution {}, stopping", executionId);
+            return false;
+        }
+
+        JobExecution execution = jobExecutionRepository.findById(executionId)
+                .orElseThrow(() -> new IllegalStateException("Job execution not found: " + executionId));
+        ChunkResult result = chunk.process(execution.getCheckpoint());
+
+        execution.setCheckpoint(result.checkpoint());
+        execution.setProcessedCount(execution.getProcessedCount() + result.processed());
+        execution.setUpdatedAt(LocalDateTime.now());
+        if (result.done()) {
+            execution.setStatus(JobExecution.Status.COMPLETED);
+            execution.setCompletedAt(execution.getUpdatedAt());
+            execution.setLeaseOwner(null);
+            execution.setLeaseUntil(null);
+            log.info("Job {} run {} completed, {} item(s) processed",
+                    execution.getJobName(), execution.getRunKey(), execution.getProcessedCount());
+        }
+        jobExecutionRepository.save(execution);
+        return !result.done();
+    }
+}
@@ -0,0 +1,59 @@
+package vn.sun.membermanagementsystem.services.loader;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.dto.request.UserUpdateDTO;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
+import vn.sun.membermanagementsystem.repositories.ProjectMemberRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.repositories.UserSkillRepository;
+
+import java.util.Optional;
+
+/**
+ * Loads the user detail and edit form data straight into DTOs. Each part is one projection query
+ * (header with active team and current position, active projects, skills), so the detail page
+ * always costs three queries and the form two, without fetching the user's collections.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileLoader {
+
+    private final UserRepository userRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserSkillRepository userSkillRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<UserProfileDetailDTO> loadDetail(Long userId) {
+        return userRepository.findProfileDetailById(userId)
+                .map(detail -> {
+                    detail.setActiveProjects(projectMemberRepository.findActiveProjectInfosByUserId(userId));
+                    detail.setSkills(userSkillRepository.findSkillInfosByUserId(userId));
+                    return detail;
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserUpdateDTO> loadForm(Long userId) {
+        return userRepository.findProfileDetailById(userId)
+                .map(detail -> UserUpdateDTO.builder()
+                        .id(detail.getId())
+                        .name(detail.getName())
+                        .email(detail.getEmail())
+                        .birthday(detail.getBirthday())
+                        .role(detail.getRole())
+                        .status(detail.getStatus())
+                        .positionId(detail.getCurrentPosition() != null ? detail.getCurrentPosition().getId() : null)
+                        .positionName(detail.getCurrentPosition() != null ? detail.getCurrentPosition().getName() : null)
+                        .skills(userSkillRepository.findSkillInfosByUserId(userId).stream()
+                                .map(skill -> UserUpdateDTO.SkillEntry.builder()
+                                        .skillId(skill.getSkillId())
+                                        .skillName(skill.getSkillName())
+                                        .level(skill.getLevel())
+                                        .usedYearNumber(skill.getUsedYearNumber())
+                                        .build())
+                                .toList())
+                        .build());
+    }
+}
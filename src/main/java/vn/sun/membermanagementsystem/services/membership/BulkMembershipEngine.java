@@ -0,0 +1,92 @@
+package vn.sun.membermanagementsystem.services.membership;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO.MemberOutcome;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO.Outcome;
+import vn.sun.membermanagementsystem.entities.Team;
+import vn.sun.membermanagementsystem.entities.TeamMember;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.repositories.TeamMemberBatchRepository;
+import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adds many users to a team with a fixed number of statements: one query for the users, one for
+ * their live memberships, one bulk UPDATE closing leftover ACTIVE rows and one JDBC batch insert.
+ * Users who are missing or already in a live team are skipped and reported in the outcomes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkMembershipEngine {
+
+    private final UserRepository userRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamMemberBatchRepository teamMemberBatchRepository;
+
+    @Transactional(rollbackFor = Exception.class)
+    public BulkMemberAddResultDTO addMembers(Team team, List<Long> userIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+
+        Map<Long, User> users = userRepository.findAllByIdInAndNotDeleted(distinctIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, TeamMember> liveMemberships = teamMemberRepository.findActiveTeamsByUserIds(distinctIds).stream()
+                .collect(Collectors.toMap(tm -> tm.getUser().getId(), Function.identity(), (first, second) -> first));
+
+        List<MemberOutcome> outcomes = new ArrayList<>(distinctIds.size());
+        List<Long> toAdd = new ArrayList<>();
+        for (Long userId : distinctIds) {
+            User user = users.get(userId);
+            TeamMember membership = liveMemberships.get(userId);
+            if (user == null) {
+                outcomes.add(outcome(userId, null, Outcome.NOT_FOUND, String.format("User ID %d not found", userId)));
+            } else if (membership != null && membership.getTeam().getId().equals(team.getId())) {
+                outcomes.add(outcome(userId, user.getName(), Outcome.ALREADY_MEMBER,
+                        String.format("%s is already a member", user.getName())));
+            } else if (membership != null) {
+                outcomes.add(outcome(userId, user.getName(), Outcome.IN_OTHER_TEAM,
+                        String.format("%s is in another team", user.getName())));
+            } else {
+                toAdd.add(userId);
+                outcomes.add(outcome(userId, user.getName(), Outcome.ADDED,
+                        String.format("%s was added", user.getName())));
+            }
+        }
+
+        if (!toAdd.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            int closed = teamMemberRepository.closeActiveMemberships(toAdd, now);
+            if (closed > 0) {
+                log.info("Closed {} stale active membership(s) before adding users to team {}", closed, team.getId());
+            }
+            teamMemberBatchRepository.insertActiveMembers(team.getId(), toAdd, now);
+        }
+
+        log.info("Added {} out of {} users to team {}", toAdd.size(), distinctIds.size(), team.getId());
+        return BulkMemberAddResultDTO.builder()
+                .addedCount(toAdd.size())
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private static MemberOutcome outcome(Long userId, String userName, Outcome outcome, String message) {
+        return MemberOutcome.builder()
+                .userId(userId)
+                .userName(userName)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import vn.sun.membermanagementsystem.entities.Project;
+
+/**
+ * One status transition applied by {@link ProjectStatusEngine}.
+ */
+public record ProjectStatusChange(
+        Long projectId,
+        Project.ProjectStatus fromStatus,
+        Project.ProjectStatus toStatus) {
+}
@@ -0,0 +1,40 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogEvent;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogWriter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Logs applied status changes and records them as system activity, with no user attached.
+ * Callers pass only changes that have been committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusChangePublisher {
+
+    private final ActivityLogWriter activityLogWriter;
+
+    public void publish(List<ProjectStatusChange> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (ProjectStatusChange change : changes) {
+            log.info("Auto-updated project ID {} from {} to {}",
+                    change.projectId(), change.fromStatus(), change.toStatus());
+            activityLogWriter.submit(new ActivityLogEvent(
+                    "AUTO_UPDATE_PROJECT_STATUS",
+                    "PROJECT",
+                    change.projectId(),
+                    "Project status changed from " + change.fromStatus() + " to " + change.toStatus(),
+                    null,
+                    null,
+                    null,
+                    null,
+                    now));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository.StatusRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Brings project statuses in line with their dates using set-based updates. The projects to
+ * change are found with one range query per target status and updated with a single
+ * {@code UPDATE ... SET status = CASE ...}, so a run never loads the Project entities and costs
+ * nothing when no project has crossed a start or end date. {@link ProjectStatusJob} drives it a
+ * chunk at a time on startup; {@link ProjectStatusTimer} refreshes single projects as their dates
+ * are reached.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusEngine {
+
+    private final ProjectRepository projectRepo;
+
+    /**
+     * Status a project should have on {@code today}: completed from its end date, ongoing from its
+     * start date, planning before that.
+     */
+    public static ProjectStatus statusOn(LocalDate startDate, LocalDate endDate, LocalDate today) {
+        if (endDate != null && !today.isBefore(endDate)) {
+            return ProjectStatus.COMPLETED;
+        }
+        if (!today.isBefore(startDate)) {
+            return ProjectStatus.ONGOING;
+        }
+        return ProjectStatus.PLANNING;
+    }
+
+    /**
+     * Moves the next {@code limit} projects after {@code afterId} that should have {@code target}
+     * status on {@code today}. Returns fewer than {@code limit} changes once there are none left.
+     */
+    @Transactional
+    public List<ProjectStatusChange> refreshChunk(ProjectStatus target, LocalDate today, long afterId, int limit) {
+        List<StatusRow> stale = switch (target) {
+            case COMPLETED -> projectRepo.findEndedBy(
+                    EnumSet.of(ProjectStatus.PLANNING, ProjectStatus.ONGOING), today, afterId, Limit.of(limit));
+            case ONGOING -> projectRepo.findRunningOn(
+                    EnumSet.of(ProjectStatus.PLANNING, ProjectStatus.COMPLETED), today, afterId, Limit.of(limit));
+            case PLANNING -> projectRepo.findNotStartedBy(
+                    EnumSet.of(ProjectStatus.ONGOING, ProjectStatus.COMPLETED), today, afterId, Limit.of(limit));
+            default -> throw new IllegalArgumentException("Projects are never moved to " + target + " by date");
+        };
+
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = stale.stream().map(StatusRow::id).toList();
+        int updated = projectRepo.refreshStatuses(ids, today, LocalDateTime.now(), ProjectStatus.COMPLETED,
+                ProjectStatus.ONGOING, ProjectStatus.PLANNING, ProjectStatus.CANCELLED);
+        log.debug("Refreshed status of {} of {} stale project(s) towards {}", updated, ids.size(), target);
+
+        return stale.stream()
+                .map(row -> new ProjectStatusChange(row.id(), row.status(),
+                        statusOn(row.startDate(), row.endDate(), today)))
+                .toList();
+    }
+
+    /**
+     * Refreshes the given projects on {@code today}, for transitions fired by
+     * {@link ProjectStatusTimer}. Returns only the projects whose status actually changed.
+     */
+    @Transactional
+    public List<ProjectStatusChange> refreshProjects(Collection<Long> ids, LocalDate today) {
+        List<ProjectStatusChange> changes = projectRepo.findAllForStatusRefresh(ids, ProjectStatus.CANCELLED).stream()
+                .map(project -> new ProjectStatusChange(project.getId(), project.getStatus(),
+                        statusOn(project.getStartDate(), project.getEndDate(), today)))
+                .filter(change -> change.fromStatus() != change.toStatus())
+                .toList();
+
+        if (!changes.isEmpty()) {
+            projectRepo.refreshStatuses(changes.stream().map(ProjectStatusChange::projectId).toList(), today,
+                    LocalDateTime.now(), ProjectStatus.COMPLETED, ProjectStatus.ONGOING, ProjectStatus.PLANNING,
+                    ProjectStatus.CANCELLED);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,90 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.services.job.JobExecutionStore;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Startup catch-up of project statuses, run at most once per day across all nodes. The run of a
+ * day is keyed by its date in Job_Executions: the first node to take the lease processes it in
+ * chunks, the others skip it, and a node starting later on the same day finds it completed. The
+ * checkpoint is the target status being processed and the last project id done for it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusJob {
+
+    static final String JOB_NAME = "project-status";
+
+    // Order in which the target statuses are processed
+    private static final List<ProjectStatus> TARGETS =
+            List.of(ProjectStatus.COMPLETED, ProjectStatus.ONGOING, ProjectStatus.PLANNING);
+
+    private final JobExecutionStore jobExecutionStore;
+    private final ProjectStatusEngine projectStatusEngine;
+    private final ProjectStatusChangePublisher changePublisher;
+
+    @Value("${project-status-job.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${project-status-job.lease:2m}")
+    private Duration lease;
+
+    public void run(LocalDate today) {
+        Optional<Long> execution = jobExecutionStore.acquire(JOB_NAME, today.toString(), lease);
+        if (execution.isEmpty()) {
+            log.info("Project status run of {} is completed or held by another node, skipping", today);
+            return;
+        }
+
+        boolean more = true;
+        while (more) {
+            List<ProjectStatusChange> changes = new ArrayList<>();
+            more = jobExecutionStore.runChunk(execution.get(), lease, checkpoint -> {
+                Checkpoint from = Checkpoint.decode(checkpoint);
+                changes.addAll(projectStatusEngine.refreshChunk(from.target(), today, from.afterId(), chunkSize));
+
+                if (changes.size() == chunkSize) {
+                    Checkpoint next = new Checkpoint(from.target(), changes.get(changes.size() - 1).projectId());
+                    return new JobExecutionStore.ChunkResult(next.encode(), changes.size(), false);
+                }
+                Checkpoint next = from.nextTarget();
+                return new JobExecutionStore.ChunkResult(next != null ? next.encode() : checkpoint,
+                        changes.size(), next == null);
+            });
+            // Published only once the chunk has committed
+            changePublisher.publish(changes);
+        }
+    }
+
+    private record Checkpoint(ProjectStatus target, long afterId) {
+
+        static Checkpoint decode(String value) {
+            if (value == null) {
+                return new Checkpoint(TARGETS.get(0), 0);
+            }
+            int separator = value.indexOf(':');
+            return new Checkpoint(ProjectStatus.valueOf(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        }
+
+        String encode() {
+            return target + ":" + afterId;
+        }
+
+        Checkpoint nextTarget() {
+            int index = TARGETS.indexOf(target);
+            return index + 1 < TARGETS.size() ? new Checkpoint(TARGETS.get(index + 1), 0) : null;
+        }
+    }
+}
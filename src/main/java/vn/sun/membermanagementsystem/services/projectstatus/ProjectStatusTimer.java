@@ -0,0 +1,178 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository.StatusRow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires project status transitions at the start of the day a project starts or ends, instead of
+ * waiting for a sweep. Transitions due within the horizon are held in a {@link DelayQueue} and
+ * applied by one background thread through {@link ProjectStatusEngine#refreshProjects}.
+ * The queue is reloaded from the database periodically and kept current by the project service
+ * through {@link #reschedule} and {@link #cancel}. Each project has a generation number; entries
+ * from an older generation are ignored when they come due, so rescheduling never has to search
+ * the queue.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusTimer {
+
+    // Retry delay when applying due transitions fails
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final ProjectRepository projectRepo;
+    private final ProjectStatusEngine projectStatusEngine;
+    private final ProjectStatusChangePublisher changePublisher;
+
+    @Value("${project-status-timer.horizon-days:2}")
+    private int horizonDays;
+
+    private final DelayQueue<Due> queue = new DelayQueue<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("project-status-timer").daemon(true).start(this::runTimer);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Loads the transitions due within the horizon. Runs at startup and well within each horizon,
+     * so a transition is always queued before it comes due.
+     */
+    @Scheduled(fixedDelay = 6, timeUnit = TimeUnit.HOURS)
+    public void reload() {
+        LocalDate today = LocalDate.now();
+        List<StatusRow> rows = projectRepo.findWithDatesBetween(
+                EnumSet.of(ProjectStatus.PLANNING, ProjectStatus.ONGOING, ProjectStatus.COMPLETED),
+                today, today.plusDays(horizonDays));
+        // Rows may have been read before a concurrent reschedule committed, so they are queued under
+        // the current generation rather than superseding it; a stale entry only causes an extra refresh
+        rows.forEach(row -> enqueue(row.id(), generations.computeIfAbsent(row.id(), id -> 1L),
+                row.startDate(), row.endDate(), today));
+        log.info("Project status timer loaded {} project(s) with transitions until {}",
+                rows.size(), today.plusDays(horizonDays));
+    }
+
+    /**
+     * Replaces the queued transitions of a project after its dates were set or changed. Inside a
+     * transaction this takes effect once it commits.
+     */
+    public void reschedule(Long projectId, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> schedule(projectId, startDate, endDate, LocalDate.now()));
+    }
+
+    public void cancel(Long projectId) {
+        afterCommit(() -> generations.remove(projectId));
+    }
+
+    int pendingCount() {
+        return queue.size();
+    }
+
+    void schedule(Long projectId, LocalDate startDate, LocalDate endDate, LocalDate today) {
+        enqueue(projectId, generations.merge(projectId, 1L, Long::sum), startDate, endDate, today);
+    }
+
+    private void enqueue(Long projectId, long generation, LocalDate startDate, LocalDate endDate, LocalDate today) {
+        LocalDate until = today.plusDays(horizonDays);
+        for (LocalDate date : new LocalDate[] { startDate, endDate }) {
+            if (date != null && date.isAfter(today) && !date.isAfter(until)) {
+                queue.add(new Due(projectId, generation, date, date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+            }
+        }
+    }
+
+    void fire(List<Due> due) {
+        // Grouped by boundary date: a transition is evaluated on its own date even if the clock is a bit behind
+        Map<LocalDate, List<Long>> idsByDate = new TreeMap<>();
+        for (Due entry : due) {
+            Long current = generations.get(entry.projectId());
+            if (current != null && current == entry.generation()) {
+                idsByDate.computeIfAbsent(entry.date(), date -> new ArrayList<>()).add(entry.projectId());
+            }
+        }
+
+        idsByDate.forEach((date, ids) -> {
+            LocalDate today = LocalDate.now().isAfter(date) ? LocalDate.now() : date;
+            changePublisher.publish(projectStatusEngine.refreshProjects(ids.stream().distinct().toList(), today));
+        });
+    }
+
+    private void runTimer() {
+        while (running) {
+            List<Due> due = new ArrayList<>();
+            try {
+                due.add(queue.take());
+                queue.drainTo(due);
+                fire(due);
+            } catch (InterruptedException e) {
+                // Interrupted on shutdown
+            } catch (Exception e) {
+                log.error("Failed to apply {} project status transition(s), retrying in {}",
+                        due.size(), RETRY_DELAY, e);
+                Instant retryAt = Instant.now().plus(RETRY_DELAY);
+                due.forEach(entry -> queue.add(new Due(entry.projectId(), entry.generation(), entry.date(), retryAt)));
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    record Due(Long projectId, long generation, LocalDate date, Instant at) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), at));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return at.compareTo(((Due) other).at);
+        }
+    }
+}
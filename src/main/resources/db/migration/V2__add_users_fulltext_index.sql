@@ -0,0 +1,7 @@
+-- Full-text index for the admin user search (name/email substring match).
+-- The ngram parser indexes every 2-character sequence (ngram_token_size default),
+-- so a phrase search matches anywhere inside a word, not only at word starts.
+-- Stopwords are disabled for the build, otherwise bigrams such as "an" or "at" would be skipped.
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE Users ADD FULLTEXT INDEX ft_users_name_email (name, email) WITH PARSER ngram;
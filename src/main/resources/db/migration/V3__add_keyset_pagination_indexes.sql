@@ -0,0 +1,3 @@
+-- Indexes backing keyset pagination. InnoDB appends the primary key to secondary indexes,
+-- so idx_teams_name and idx_logs_created already cover (name, id) and (created_at, id).
+ALTER TABLE Team_Members ADD INDEX idx_tm_team_joined (team_id, joined_at);
@@ -0,0 +1,5 @@
+-- Ranges read by the project status refresh: stale rows are found by status and start or end date
+-- without scanning the whole table.
+ALTER TABLE Projects
+    ADD INDEX idx_projects_status_start (status, start_date),
+    ADD INDEX idx_projects_status_end (status, end_date);
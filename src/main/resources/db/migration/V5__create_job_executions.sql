@@ -0,0 +1,18 @@
+-- One row per run of a background job (e.g. the project status refresh of one day). The row is the
+-- lock shared by all nodes: whoever holds an unexpired lease runs the next chunk, and the checkpoint
+-- lets a node that takes over an expired lease resume where the previous one stopped.
+CREATE TABLE Job_Executions (
+                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                job_name VARCHAR(100) NOT NULL,
+                                run_key VARCHAR(50) NOT NULL,
+                                status ENUM('RUNNING', 'COMPLETED') NOT NULL DEFAULT 'RUNNING',
+                                checkpoint VARCHAR(255) NULL,
+                                processed_count BIGINT NOT NULL DEFAULT 0,
+                                lease_owner VARCHAR(100) NULL,
+                                lease_until DATETIME NULL,
+                                started_at DATETIME NOT NULL,
+                                updated_at DATETIME NOT NULL,
+                                completed_at DATETIME NULL,
+
+                                UNIQUE KEY uk_job_executions_run (job_name, run_key)
+);
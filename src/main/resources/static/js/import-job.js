@@ -0,0 +1,147 @@
+// CSV import jobs: submits the upload as a background job and polls its progress
+
+const IMPORT_JOB_POLL_INTERVAL = 1000;
+const IMPORT_JOB_FINISHED = ["COMPLETED", "FAILED", "CANCELLED"];
+
+function initImportJob(entityType) {
+  const form = document.getElementById("importForm");
+  const container = document.getElementById("importJob");
+  if (!form || !container) return;
+
+  form.addEventListener("submit", async (e) => {
+    e.preventDefault();
+
+    const file = form.querySelector('input[type="file"]').files[0];
+    if (!file) return;
+
+    const atomicOption = form.querySelector('input[name="atomic"]');
+    const formData = new FormData();
+    formData.append("file", file);
+    formData.append("atomic", atomicOption && atomicOption.checked ? "false" : "true");
+
+    setImportFormDisabled(form, true);
+    renderImportJob(container, { status: "QUEUED", percent: 0, fileName: file.name });
+
+    try {
+      const response = await fetch(`/admin/import/${entityType}/jobs`, {
+        method: "POST",
+        body: formData,
+      });
+      const job = await response.json();
+      if (!response.ok) {
+        throw new Error(job.message || `HTTP ${response.status}`);
+      }
+      pollImportJob(form, container, job.jobId);
+    } catch (error) {
+      renderImportJobError(container, "Could not start import: " + error.message);
+      setImportFormDisabled(form, false);
+    }
+  });
+}
+
+function pollImportJob(form, container, jobId) {
+  const poll = async () => {
+    try {
+      const response = await fetch(`/admin/import/jobs/${jobId}`);
+      const job = await response.json();
+      if (!response.ok) {
+        throw new Error(job.message || `HTTP ${response.status}`);
+      }
+
+      renderImportJob(container, job);
+      if (IMPORT_JOB_FINISHED.includes(job.status)) {
+        setImportFormDisabled(form, false);
+        return;
+      }
+      setTimeout(poll, IMPORT_JOB_POLL_INTERVAL);
+    } catch (error) {
+      renderImportJobError(container, "Lost track of import job: " + error.message);
+      setImportFormDisabled(form, false);
+    }
+  };
+  poll();
+}
+
+async function cancelImportJob(jobId) {
+  await fetch(`/admin/import/jobs/${jobId}/cancel`, { method: "POST" });
+}
+
+function renderImportJob(container, job) {
+  const finished = IMPORT_JOB_FINISHED.includes(job.status);
+  const percent = job.percent || 0;
+
+  let html = `
+    <div class="import-job-header">
+      <strong>${escapeImportHtml(job.fileName || "")}</strong>
+      <span class="import-job-status status-${job.status.toLowerCase()}">${job.status}</span>
+    </div>
+    <div class="progress-bar">
+      <div class="progress-fill" style="width: ${percent}%"></div>
+    </div>
+    <div class="import-job-counters">
+      <span>${percent}%</span>
+      <span>Rows read: ${job.rowsRead || 0}</span>
+      <span>Imported: ${job.successCount || 0}</span>
+      <span>Errors: ${job.errorCount || 0}</span>
+    </div>`;
+
+  if (!finished && job.jobId) {
+    html += `<button type="button" class="btn btn-outline" onclick="cancelImportJob('${job.jobId}')">
+               <i class="fas fa-stop"></i> Cancel
+             </button>`;
+  }
+
+  if (finished) {
+    html += renderImportJobSummary(job);
+  }
+
+  if (job.errors && job.errors.length > 0) {
+    html += `<div class="alert alert-danger import-errors">
+               <strong><i class="fas fa-exclamation-triangle"></i> Import Errors:</strong>
+               <ul>
+                 ${job.errors
+                   .map((e) => `<li>Row ${e.row} - ${escapeImportHtml(e.field)}: ${escapeImportHtml(e.message)}</li>`)
+                   .join("")}
+               </ul>
+               ${job.errorsTruncated ? "<p>Only the first errors are shown.</p>" : ""}
+             </div>`;
+  }
+
+  container.innerHTML = html;
+  container.classList.remove("hidden");
+}
+
+function renderImportJobSummary(job) {
+  if (job.status === "FAILED") {
+    return `<div class="alert alert-danger">Import failed: ${escapeImportHtml(job.message || "unknown error")}</div>`;
+  }
+  if (job.status === "CANCELLED") {
+    return job.atomic || job.rolledBack
+      ? `<div class="alert alert-danger">Import cancelled. No rows were imported.</div>`
+      : `<div class="alert alert-danger">Import cancelled after ${job.successCount} row(s) were imported.</div>`;
+  }
+  if (job.rolledBack) {
+    return `<div class="alert alert-danger rollback-notice">
+              <i class="fas fa-undo"></i> Import failed. ${job.errorCount} error(s) found.
+              All changes have been rolled back.
+            </div>`;
+  }
+  return `<div class="alert alert-success">
+            <i class="fas fa-check-circle"></i> Successfully imported ${job.successCount} row(s).
+          </div>`;
+}
+
+function renderImportJobError(container, message) {
+  container.innerHTML = `<div class="alert alert-danger">${escapeImportHtml(message)}</div>`;
+  container.classList.remove("hidden");
+}
+
+function setImportFormDisabled(form, disabled) {
+  form.querySelectorAll("button, input").forEach((el) => (el.disabled = disabled));
+}
+
+function escapeImportHtml(value) {
+  const div = document.createElement("div");
+  div.textContent = value == null ? "" : String(value);
+  return div.innerHTML;
+}
@@ -0,0 +1,124 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.config.security.CustomUserDetails;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenDenyList Unit Tests")
+class TokenDenyListTest {
+
+    private JwtUtils jwtUtils;
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "test-secret-key-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000L);
+        jwtUtils.init();
+
+        tokenDenyList = new TokenDenyList();
+        ReflectionTestUtils.setField(tokenDenyList, "jwtExpirationMs", 60_000L);
+    }
+
+    private Claims issue(Long userId) {
+        CustomUserDetails user = new CustomUserDetails(userId, "user" + userId + "@example.com", "",
+                UserRole.MEMBER, List.of(new SimpleGrantedAuthority("ROLE_MEMBER")));
+        return jwtUtils.parseClaims(jwtUtils.generateToken(user));
+    }
+
+    @Test
+    @DisplayName("Token issued before a user revocation is rejected")
+    void testIsRevoked_UserRevoked() {
+        Claims claims = issue(1L);
+
+        tokenDenyList.revokeUser(1L);
+
+        assertTrue(tokenDenyList.isRevoked(claims));
+        assertFalse(tokenDenyList.isRevoked(issue(2L)));
+    }
+
+    @Test
+    @DisplayName("Token re-issued in the same second as the revocation is accepted")
+    void testIsRevoked_ReissuedInSameSecond() throws InterruptedException {
+        // Start early in a second so both tokens and the revocation share it
+        while (System.currentTimeMillis() % 1000 > 500) {
+            Thread.sleep(10);
+        }
+        Claims before = issue(1L);
+        tokenDenyList.revokeUser(1L);
+        Thread.sleep(5);
+        Claims after = issue(1L);
+
+        assertEquals(before.getIssuedAt(), after.getIssuedAt());
+        assertTrue(tokenDenyList.isRevoked(before));
+        assertFalse(tokenDenyList.isRevoked(after));
+    }
+
+    @Test
+    @DisplayName("Token without the millisecond claim is rejected when issued in the revocation second")
+    void testIsRevoked_LegacyTokenInSameSecond() {
+        Claims legacy = Jwts.claims();
+        legacy.put(JwtUtils.USER_ID_CLAIM, 1L);
+        legacy.setIssuedAt(new Date(System.currentTimeMillis() / 1000 * 1000));
+
+        tokenDenyList.revokeUser(1L);
+
+        assertTrue(tokenDenyList.isRevoked(legacy));
+    }
+
+    @Test
+    @DisplayName("Logout revokes only the given token")
+    void testIsRevoked_TokenRevoked() {
+        Claims loggedOut = issue(1L);
+        Claims other = issue(1L);
+
+        tokenDenyList.revokeToken(loggedOut.getId(), loggedOut.getExpiration());
+
+        assertTrue(tokenDenyList.isRevoked(loggedOut));
+        assertFalse(tokenDenyList.isRevoked(other));
+    }
+
+    @Test
+    @DisplayName("Expired entries are purged")
+    void testPurgeExpired() throws InterruptedException {
+        ReflectionTestUtils.setField(tokenDenyList, "jwtExpirationMs", 1L);
+        Claims token = issue(1L);
+        Claims revokedUserToken = issue(2L);
+        tokenDenyList.revokeToken(token.getId(), new Date(System.currentTimeMillis() - 1000));
+        tokenDenyList.revokeUser(2L);
+        assertTrue(tokenDenyList.isRevoked(token));
+        assertTrue(tokenDenyList.isRevoked(revokedUserToken));
+
+        Thread.sleep(10);
+        tokenDenyList.purgeExpired();
+
+        assertFalse(tokenDenyList.isRevoked(token));
+        assertFalse(tokenDenyList.isRevoked(revokedUserToken));
+    }
+
+    @Test
+    @DisplayName("Entries that can still cover a valid token are kept")
+    void testPurgeExpired_KeepsLiveEntries() {
+        Claims token = issue(1L);
+        Claims revokedUserToken = issue(2L);
+        tokenDenyList.revokeToken(token.getId(), token.getExpiration());
+        tokenDenyList.revokeUser(2L);
+
+        tokenDenyList.purgeExpired();
+
+        assertTrue(tokenDenyList.isRevoked(token));
+        assertTrue(tokenDenyList.isRevoked(revokedUserToken));
+    }
+}
@@ -0,0 +1,99 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserDetailsCache Unit Tests")
+class UserDetailsCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CustomUserDetails user(Long id, String email) {
+        return new CustomUserDetails(id, email, "hash", UserRole.MEMBER,
+                List.of(new SimpleGrantedAuthority("ROLE_MEMBER")));
+    }
+
+    @Test
+    @DisplayName("Cached user is returned as a copy")
+    void testGetUserFromCache_ReturnsCopy() {
+        UserDetailsCache cache = new UserDetailsCache(10, Duration.ofMinutes(5));
+        cache.putUserInCache(user(1L, "a@example.com"));
+
+        UserDetails first = cache.getUserFromCache("a@example.com");
+        ((CustomUserDetails) first).eraseCredentials();
+        UserDetails second = cache.getUserFromCache("a@example.com");
+
+        assertNotSame(first, second);
+        assertEquals("hash", second.getPassword());
+        assertEquals(1L, ((CustomUserDetails) second).getUserId());
+    }
+
+    @Test
+    @DisplayName("Entries expire after the TTL")
+    void testGetUserFromCache_Expired() throws InterruptedException {
+        UserDetailsCache cache = new UserDetailsCache(10, Duration.ofMillis(1));
+        cache.putUserInCache(user(1L, "a@example.com"));
+
+        Thread.sleep(10);
+
+        assertNull(cache.getUserFromCache("a@example.com"));
+    }
+
+    @Test
+    @DisplayName("Least recently used entry is dropped once the cache is full")
+    void testPutUserInCache_EvictsLeastRecentlyUsed() {
+        UserDetailsCache cache = new UserDetailsCache(2, Duration.ofMinutes(5));
+        cache.putUserInCache(user(1L, "a@example.com"));
+        cache.putUserInCache(user(2L, "b@example.com"));
+        cache.getUserFromCache("a@example.com");
+
+        cache.putUserInCache(user(3L, "c@example.com"));
+
+        assertNotNull(cache.getUserFromCache("a@example.com"));
+        assertNull(cache.getUserFromCache("b@example.com"));
+        assertNotNull(cache.getUserFromCache("c@example.com"));
+    }
+
+    @Test
+    @DisplayName("A zero max size disables caching")
+    void testPutUserInCache_Disabled() {
+        UserDetailsCache cache = new UserDetailsCache(0, Duration.ofMinutes(5));
+        cache.putUserInCache(user(1L, "a@example.com"));
+
+        assertNull(cache.getUserFromCache("a@example.com"));
+    }
+
+    @Test
+    @DisplayName("Removal inside a transaction evicts again after completion")
+    void testRemoveUserFromCache_EvictsAgainAfterCompletion() {
+        UserDetailsCache cache = new UserDetailsCache(10, Duration.ofMinutes(5));
+        cache.putUserInCache(user(1L, "a@example.com"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.removeUserFromCache("a@example.com");
+        assertNull(cache.getUserFromCache("a@example.com"));
+
+        // A lookup racing with the transaction caches the old state again
+        cache.putUserInCache(user(1L, "a@example.com"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertNull(cache.getUserFromCache("a@example.com"));
+    }
+}
@@ -0,0 +1,57 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetCursor Unit Tests")
+class KeysetCursorTest {
+
+    private static String token(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Encoded cursor decodes back to the same key and id")
+    void testDecode_RoundTrip() {
+        KeysetCursor cursor = KeysetCursor.of("Team | Alpha", 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertFalse(cursor.encode().contains("="));
+    }
+
+    @Test
+    @DisplayName("Date-time cursor decodes back to the same date-time")
+    void testDecode_DateTimeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 9, 30, 15);
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 7L).encode());
+
+        assertEquals(createdAt, decoded.keyAsDateTime());
+        assertEquals(7L, decoded.id());
+    }
+
+    @Test
+    @DisplayName("Missing or blank token means the first page")
+    void testDecode_Blank() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Tampered tokens are rejected as bad requests")
+    void testDecode_Tampered_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(token("no separator")));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(token("Team Alpha|abc")));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(token("not-a-date|1")).keyAsDateTime());
+    }
+}
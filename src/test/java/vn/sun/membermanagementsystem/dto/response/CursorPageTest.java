@@ -0,0 +1,41 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vn.sun.membermanagementsystem.dto.request.KeysetCursor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CursorPage Unit Tests")
+class CursorPageTest {
+
+    private record Row(Long id, String name) {
+    }
+
+    private static CursorPage<String> page(List<Row> rows, int size) {
+        return CursorPage.of(rows, size, Row::name, row -> KeysetCursor.of(row.name(), row.id()), null);
+    }
+
+    @Test
+    @DisplayName("Extra row marks a next page whose cursor points at the last row shown")
+    void testOf_HasNext() {
+        CursorPage<String> page = page(List.of(new Row(1L, "A"), new Row(2L, "B"), new Row(3L, "C")), 2);
+
+        assertEquals(List.of("A", "B"), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(KeysetCursor.of("B", 2L), KeysetCursor.decode(page.getNextCursor()));
+        assertNull(page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Last page has no next cursor")
+    void testOf_LastPage() {
+        CursorPage<String> page = page(List.of(new Row(1L, "A"), new Row(2L, "B")), 2);
+
+        assertEquals(List.of("A", "B"), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+}
@@ -14,6 +14,8 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.TeamMapper;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
+import vn.sun.membermanagementsystem.services.cascade.SoftDeleteCascade;
 import vn.sun.membermanagementsystem.services.impls.TeamServiceImpl;
 
 import java.time.LocalDateTime;
@@ -34,6 +36,12 @@ public class TeamServiceTest {
     @Mock
     private vn.sun.membermanagementsystem.services.TeamLeadershipService teamLeadershipService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -171,6 +179,7 @@ public class TeamServiceTest {
         assertTrue(result);
         assertNotNull(existingTeam.getDeletedAt());
         verify(teamRepository, times(1)).save(existingTeam);
+        verify(softDeleteCascade, times(1)).deleteTeam(teamId);
     }
 
     @Test
@@ -181,6 +190,7 @@ public class TeamServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> teamService.deleteTeam(teamId));
         verify(teamRepository, never()).save(any(Team.class));
+        verifyNoInteractions(softDeleteCascade);
     }
 
     @Test
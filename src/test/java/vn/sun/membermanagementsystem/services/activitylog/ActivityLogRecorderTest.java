@@ -0,0 +1,69 @@
+package vn.sun.membermanagementsystem.services.activitylog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogRecorder Unit Tests")
+class ActivityLogRecorderTest {
+
+    @Mock
+    private ActivityLogWriter activityLogWriter;
+
+    @InjectMocks
+    private ActivityLogRecorder activityLogRecorder;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Record outside a transaction queues the event right away")
+    void testRecord_NoTransaction() {
+        activityLogRecorder.record("DELETE_TEAM", "TEAM", 1L, "Delete team");
+
+        ArgumentCaptor<ActivityLogEvent> captor = ArgumentCaptor.forClass(ActivityLogEvent.class);
+        verify(activityLogWriter, times(1)).submit(captor.capture());
+        assertEquals("DELETE_TEAM", captor.getValue().action());
+        assertEquals(1L, captor.getValue().entityId());
+    }
+
+    @Test
+    @DisplayName("Record inside a transaction queues the event only after commit")
+    void testRecord_QueuedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        activityLogRecorder.record("DELETE_TEAM", "TEAM", 1L, "Delete team");
+
+        verifyNoInteractions(activityLogWriter);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(activityLogWriter, times(1)).submit(any(ActivityLogEvent.class));
+    }
+
+    @Test
+    @DisplayName("Record inside a rolled back transaction queues nothing")
+    void testRecord_RolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        activityLogRecorder.record("DELETE_TEAM", "TEAM", 1L, "Delete team");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verifyNoInteractions(activityLogWriter);
+    }
+}
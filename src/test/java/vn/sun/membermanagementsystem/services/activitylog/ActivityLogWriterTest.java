@@ -0,0 +1,188 @@
+package vn.sun.membermanagementsystem.services.activitylog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.repositories.ActivityLogBatchRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogWriter.OverflowPolicy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogWriter Unit Tests")
+class ActivityLogWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+    @Mock
+    private ActivityLogBatchRepository activityLogBatchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ActivityLogWriter started;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (started != null) {
+            started.shutdown();
+        }
+    }
+
+    private ActivityLogWriter writer(OverflowPolicy policy, int queueCapacity) {
+        ActivityLogWriter writer = new ActivityLogWriter(activityLogBatchRepository, userRepository, objectMapper);
+        ReflectionTestUtils.setField(writer, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(writer, "batchSize", 10);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 50L);
+        ReflectionTestUtils.setField(writer, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(writer, "blockTimeoutMs", 10L);
+        ReflectionTestUtils.setField(writer, "spillDir", spillDir.toString());
+        ReflectionTestUtils.setField(writer, "shutdownTimeoutSeconds", 5L);
+        return writer;
+    }
+
+    // A writer whose queue is never consumed, so overflow can be triggered deterministically
+    private ActivityLogWriter stalledWriter(OverflowPolicy policy) {
+        ActivityLogWriter writer = writer(policy, 1);
+        ReflectionTestUtils.setField(writer, "queue", new ArrayBlockingQueue<ActivityLogEvent>(1));
+        ReflectionTestUtils.setField(writer, "spillPath", spillDir.resolve("activity-log-spill.jsonl"));
+        return writer;
+    }
+
+    private ActivityLogWriter startedWriter(OverflowPolicy policy) throws Exception {
+        started = writer(policy, 100);
+        started.start();
+        return started;
+    }
+
+    private ActivityLogEvent event(String action) {
+        return new ActivityLogEvent(action, "TEAM", 1L, "Test", 1L, null, null, null, CREATED_AT);
+    }
+
+    private List<String> writtenActions() {
+        ArgumentCaptor<List<ActivityLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityLogBatchRepository, atLeastOnce()).insertAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).map(ActivityLog::getAction).toList();
+    }
+
+    @Test
+    @DisplayName("DROP policy drops events once the queue is full")
+    void testSubmit_DropPolicy() {
+        ActivityLogWriter writer = stalledWriter(OverflowPolicy.DROP);
+
+        writer.submit(event("A"));
+        writer.submit(event("B"));
+        writer.submit(event("C"));
+
+        assertEquals(1, writer.getQueueSize());
+        assertEquals(2, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("BLOCK policy drops an event only after waiting for space")
+    void testSubmit_BlockPolicy() {
+        ActivityLogWriter writer = stalledWriter(OverflowPolicy.BLOCK);
+
+        writer.submit(event("A"));
+        long start = System.nanoTime();
+        writer.submit(event("B"));
+
+        assertTrue(System.nanoTime() - start >= 10_000_000L);
+        assertEquals(1, writer.getQueueSize());
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("SPILL policy appends overflowing events to the spill file")
+    void testSubmit_SpillPolicy() throws Exception {
+        ActivityLogWriter writer = stalledWriter(OverflowPolicy.SPILL);
+
+        writer.submit(event("A"));
+        writer.submit(event("B"));
+        writer.submit(event("C"));
+
+        List<String> lines = Files.readAllLines(spillDir.resolve("activity-log-spill.jsonl"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("B", objectMapper.readValue(lines.get(0), ActivityLogEvent.class).action());
+        assertEquals("C", objectMapper.readValue(lines.get(1), ActivityLogEvent.class).action());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Spilled events are replayed in order before newly queued events")
+    void testStart_ReplaysSpilledEventsInOrder() throws Exception {
+        ActivityLogWriter stalled = stalledWriter(OverflowPolicy.SPILL);
+        stalled.submit(event("queued"));
+        stalled.submit(event("S1"));
+        stalled.submit(event("S2"));
+        stalled.submit(event("S3"));
+
+        ActivityLogWriter writer = startedWriter(OverflowPolicy.SPILL);
+        writer.submit(event("N1"));
+        writer.shutdown();
+        started = null;
+
+        assertEquals(List.of("S1", "S2", "S3", "N1"), writtenActions());
+        assertFalse(Files.exists(spillDir.resolve("activity-log-spill.jsonl")));
+        assertFalse(Files.exists(spillDir.resolve("activity-log-replay.jsonl")));
+    }
+
+    @Test
+    @DisplayName("A failed write is spilled and replayed once writes succeed again")
+    void testFlush_FailedWriteIsSpilled() throws Exception {
+        doThrow(new RuntimeException("database down")).doNothing()
+                .when(activityLogBatchRepository).insertAll(anyList());
+
+        ActivityLogWriter writer = startedWriter(OverflowPolicy.SPILL);
+        writer.submit(event("A"));
+
+        verify(activityLogBatchRepository, timeout(2000).times(2)).insertAll(anyList());
+        writer.shutdown();
+        started = null;
+
+        assertEquals(List.of("A", "A"), writtenActions());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Shutdown drains every queued event before returning")
+    void testShutdown_DrainsQueue() throws Exception {
+        ActivityLogWriter writer = startedWriter(OverflowPolicy.BLOCK);
+        for (int i = 0; i < 25; i++) {
+            writer.submit(event("E" + i));
+        }
+
+        writer.shutdown();
+        started = null;
+
+        List<String> actions = writtenActions();
+        assertEquals(25, actions.size());
+        assertEquals("E0", actions.get(0));
+        assertEquals("E24", actions.get(24));
+        assertEquals(0, writer.getQueueSize());
+    }
+}
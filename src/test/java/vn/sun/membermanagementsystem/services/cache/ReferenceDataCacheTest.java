@@ -0,0 +1,118 @@
+package vn.sun.membermanagementsystem.services.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache.Region;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache.Stats;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReferenceDataCache Unit Tests")
+class ReferenceDataCacheTest {
+
+    private final ReferenceDataCache cache = new ReferenceDataCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Supplier<List<String>> loader(String... values) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(values);
+        };
+    }
+
+    @Test
+    @DisplayName("Second read is served from the snapshot")
+    void testGet_HitAfterLoad() {
+        List<String> first = cache.get(Region.SKILLS, loader("Java", "SQL"));
+        List<String> second = cache.get(Region.SKILLS, loader("Other"));
+
+        assertEquals(List.of("Java", "SQL"), first);
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Regions are cached independently")
+    void testGet_RegionsIndependent() {
+        cache.get(Region.SKILLS, loader("Java"));
+        List<String> positions = cache.get(Region.POSITIONS, loader("Developer"));
+
+        cache.invalidate(Region.SKILLS);
+
+        assertSame(positions, cache.get(Region.POSITIONS, loader("Other")));
+        assertEquals(List.of("Other"), cache.get(Region.SKILLS, loader("Other")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Invalidate drops the snapshot")
+    void testInvalidate_ReloadsOnNextRead() {
+        cache.get(Region.TEAMS, loader("Team A"));
+
+        cache.invalidate(Region.TEAMS);
+
+        assertEquals(List.of("Team B"), cache.get(Region.TEAMS, loader("Team B")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Load overlapping an invalidation is served but not kept")
+    void testGet_LoadOverlappingInvalidationNotKept() {
+        List<String> stale = cache.get(Region.SKILLS, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(Region.SKILLS);
+            return List.of("Old");
+        });
+
+        assertEquals(List.of("Old"), stale);
+        assertEquals(List.of("New"), cache.get(Region.SKILLS, loader("New")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Invalidate inside a transaction drops the snapshot again after completion")
+    void testInvalidate_AgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(Region.POSITIONS, loader("Developer"));
+
+        cache.invalidate(Region.POSITIONS);
+        cache.invalidate(Region.POSITIONS);
+        // A read racing with the write reloads the old rows before the transaction commits
+        cache.get(Region.POSITIONS, loader("Developer"));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(List.of("Tester"), cache.get(Region.POSITIONS, loader("Tester")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Stats count hits, misses and snapshot size per region")
+    void testGetStats() {
+        cache.get(Region.SKILLS, loader("Java", "SQL"));
+        cache.get(Region.SKILLS, loader("Java", "SQL"));
+        cache.get(Region.SKILLS, loader("Java", "SQL"));
+        cache.get(Region.TEAMS, loader("Team A"));
+        cache.invalidate(Region.TEAMS);
+
+        assertEquals(new Stats(2, 1, 2), cache.getStats().get(Region.SKILLS));
+        assertEquals(new Stats(0, 1, 0), cache.getStats().get(Region.TEAMS));
+        assertEquals(new Stats(0, 0, 0), cache.getStats().get(Region.POSITIONS));
+    }
+}
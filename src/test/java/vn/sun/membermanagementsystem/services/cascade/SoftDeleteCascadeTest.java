@@ -0,0 +1,96 @@
+package vn.sun.membermanagementsystem.services.cascade;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import vn.sun.membermanagementsystem.entities.Project;
+import vn.sun.membermanagementsystem.entities.ProjectMember;
+import vn.sun.membermanagementsystem.repositories.ProjectLeadershipHistoryRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectMemberRepository;
+import vn.sun.membermanagementsystem.repositories.TeamLeadershipHistoryRepository;
+import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
+import vn.sun.membermanagementsystem.services.ProjectLeadershipService;
+import vn.sun.membermanagementsystem.services.ProjectMemberService;
+import vn.sun.membermanagementsystem.services.activitylog.ActivityLogRecorder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SoftDeleteCascade Unit Tests")
+class SoftDeleteCascadeTest {
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TeamLeadershipHistoryRepository teamLeadershipHistoryRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private ProjectLeadershipHistoryRepository projectLeadershipHistoryRepository;
+
+    @Mock
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private ProjectLeadershipService projectLeadershipService;
+
+    @Mock
+    private ActivityLogRecorder activityLogRecorder;
+
+    @InjectMocks
+    private SoftDeleteCascade softDeleteCascade;
+
+    @Test
+    @DisplayName("Delete team ends all memberships with one update and records one activity")
+    void testDeleteTeam() {
+        when(teamMemberRepository.closeTeamMemberships(eq(1L), any())).thenReturn(2000);
+        when(teamLeadershipHistoryRepository.endActiveByTeamId(eq(1L), any())).thenReturn(1);
+
+        SoftDeleteCascade.Result result = softDeleteCascade.deleteTeam(1L);
+
+        assertEquals(new SoftDeleteCascade.Result(2000, 1), result);
+        verify(activityLogRecorder, times(1)).record("DELETE_TEAM", "TEAM", 1L,
+                "Delete team - ended 2000 membership(s) and 1 leadership(s)");
+        verifyNoMoreInteractions(teamMemberRepository, teamLeadershipHistoryRepository, activityLogRecorder);
+    }
+
+    @Test
+    @DisplayName("Cancel project ends members and leadership and records one activity")
+    void testCancelProject() {
+        Project project = new Project();
+        project.setId(5L);
+        when(projectMemberService.removeAllMembers(project)).thenReturn(12);
+        when(projectLeadershipService.endAllLeadership(project)).thenReturn(1);
+
+        SoftDeleteCascade.Result result = softDeleteCascade.cancelProject(project);
+
+        assertEquals(new SoftDeleteCascade.Result(12, 1), result);
+        verify(activityLogRecorder, times(1)).record(eq("CANCEL_PROJECT"), eq("PROJECT"), eq(5L), anyString());
+    }
+
+    @Test
+    @DisplayName("Delete user ends team and project memberships and leaderships")
+    void testDeleteUser() {
+        when(teamMemberRepository.closeActiveMemberships(eq(List.of(7L)), any())).thenReturn(1);
+        when(projectMemberRepository.deactivateByUserId(eq(7L), any(),
+                eq(ProjectMember.MemberStatus.ACTIVE), eq(ProjectMember.MemberStatus.INACTIVE))).thenReturn(3);
+        when(teamLeadershipHistoryRepository.endActiveByLeaderId(eq(7L), any())).thenReturn(1);
+        when(projectLeadershipHistoryRepository.endActiveByLeaderId(eq(7L), any())).thenReturn(2);
+
+        SoftDeleteCascade.Result result = softDeleteCascade.deleteUser(7L);
+
+        assertEquals(new SoftDeleteCascade.Result(4, 3), result);
+        verify(activityLogRecorder, times(1)).record("DELETE_USER", "USER", 7L,
+                "Delete user - ended 4 membership(s) and 3 leadership(s)");
+    }
+}
@@ -0,0 +1,312 @@
+package vn.sun.membermanagementsystem.services.csv;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractTransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvPreviewResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AbstractCsvImportService Unit Tests")
+class AbstractCsvImportServiceTest {
+
+    // Rows starting with "bad" fail validation, "crash" throws while validated, "boom" fails when written
+    private static class StubImportService extends AbstractCsvImportService<String> {
+
+        final List<Integer> processedRows = new ArrayList<>();
+
+        @Override
+        protected List<String> validateRowForPreview(String[] data, int rowNumber, CsvLookupContext lookups) {
+            crashIfRequested(data);
+            return data[0].startsWith("bad") ? List.of("Name is invalid") : List.of();
+        }
+
+        @Override
+        protected boolean validateRow(String[] data, int rowNumber, CsvImportResult<String> result,
+                                      CsvLookupContext lookups) {
+            crashIfRequested(data);
+            if (data[0].startsWith("bad")) {
+                result.addError(rowNumber, "Name", "Name is invalid");
+                return false;
+            }
+            return true;
+        }
+
+        private void crashIfRequested(String[] data) {
+            if (data[0].startsWith("crash")) {
+                throw new IllegalArgumentException("Unexpected value");
+            }
+        }
+
+        @Override
+        protected String processRow(String[] data, int rowNumber, CsvImportResult<String> result,
+                                    CsvLookupContext lookups) {
+            if (data[0].startsWith("boom")) {
+                throw new IllegalStateException("Duplicate name");
+            }
+            processedRows.add(rowNumber);
+            return data[0];
+        }
+
+        @Override
+        public String[] getExpectedHeaders() {
+            return new String[] { "Name" };
+        }
+
+        @Override
+        public String generateSampleCsv() {
+            return "Name\n";
+        }
+    }
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private StubImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new StubImportService();
+        ReflectionTestUtils.setField(importService, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(importService, "entityManager", entityManager);
+    }
+
+    private void stubTransactions() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().doAnswer(invocation -> {
+            ((AbstractTransactionStatus) invocation.getArgument(0)).setCompleted();
+            return null;
+        }).when(transactionManager).commit(any());
+        lenient().doAnswer(invocation -> {
+            ((AbstractTransactionStatus) invocation.getArgument(0)).setCompleted();
+            return null;
+        }).when(transactionManager).rollback(any());
+    }
+
+    private MockMultipartFile csv(List<String> rows) {
+        String content = "Name\n" + String.join("\n", rows) + "\n";
+        return new MockMultipartFile("file", "data.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> names(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "name" + i).toList();
+    }
+
+    @Test
+    @DisplayName("Chunked import commits every chunk in its own new transaction")
+    void testImportStreaming_CommitsPerChunk() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(csv(names(1201)), false);
+
+        assertEquals(1201, result.getTotalRows());
+        assertEquals(1201, result.getSuccessCount());
+        assertEquals(0, result.getErrorCount());
+        assertTrue(result.getImportedEntities().isEmpty());
+        assertEquals(IntStream.rangeClosed(2, 1202).boxed().toList(), importService.processedRows);
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(definitions.capture());
+        definitions.getAllValues().forEach(definition ->
+                assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getPropagationBehavior()));
+        verify(transactionManager, times(3)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Failed chunk is rolled back and retried row by row")
+    void testImportStreaming_RetriesFailedChunkRowByRow() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(
+                csv(List.of("name1", "boom", "name3")), false);
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(1, result.getErrorCount());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals("Duplicate name", result.getErrors().get(0).getMessage());
+        assertFalse(result.isRolledBack());
+
+        // One transaction for the chunk, then one per row
+        verify(transactionManager, times(4)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Chunked import skips invalid rows and imports the rest")
+    void testImportStreaming_SkipsInvalidRows() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(
+                csv(List.of("name1", "bad", "name3")), false);
+
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(1, result.getErrorCount());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals(List.of(2, 4), importService.processedRows);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Atomic import writes all rows in one transaction, flushing per chunk")
+    void testImportAtomic_SingleTransaction() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(csv(names(1001)), true);
+
+        assertEquals(1001, result.getTotalRows());
+        assertEquals(1001, result.getSuccessCount());
+        assertFalse(result.isRolledBack());
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("Atomic import with an invalid row writes nothing")
+    void testImportAtomic_ValidationFailsBeforeWrite() {
+        CsvImportResult<String> result = importService.importFromCsv(csv(List.of("name1", "bad", "name3")));
+
+        assertTrue(result.isRolledBack());
+        assertEquals(0, result.getSuccessCount());
+        assertEquals(1, result.getErrorCount());
+        assertTrue(importService.processedRows.isEmpty());
+        verifyNoInteractions(transactionManager, entityManager);
+    }
+
+    @Test
+    @DisplayName("Atomic import is rolled back when a row fails to be written")
+    void testImportAtomic_RollsBackOnWriteFailure() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsv(csv(List.of("name1", "boom", "name3")));
+
+        assertTrue(result.isRolledBack());
+        assertEquals(0, result.getSuccessCount());
+        assertTrue(result.getImportedEntities().isEmpty());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals(List.of(2), importService.processedRows);
+        verify(transactionManager, never()).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Reported errors are capped while the error count stays exact")
+    void testImportStreaming_CapsReportedErrors() {
+        List<String> rows = IntStream.rangeClosed(1, 1100).mapToObj(i -> "bad" + i).toList();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(csv(rows), false);
+
+        assertEquals(1100, result.getErrorCount());
+        assertEquals(AbstractCsvImportService.MAX_REPORTED_ERRORS, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        verifyNoInteractions(transactionManager);
+    }
+
+    // Row i is blank every 7th row, invalid every 3rd row, valid otherwise; file row numbers are i + 1
+    private List<String> mixedRows(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> i % 7 == 0 ? " " : i % 3 == 0 ? "bad" + i : "name" + i)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Parallel validation keeps row order and row numbers")
+    void testImportStreaming_ParallelValidationKeepsRowOrder() {
+        stubTransactions();
+
+        CsvImportResult<String> result = importService.importFromCsvStreaming(csv(mixedRows(300)), false);
+
+        List<Integer> expectedErrorRows = IntStream.rangeClosed(1, 300)
+                .filter(i -> i % 7 != 0 && i % 3 == 0).map(i -> i + 1).boxed().toList();
+        List<Integer> expectedImportedRows = IntStream.rangeClosed(1, 300)
+                .filter(i -> i % 7 != 0 && i % 3 != 0).map(i -> i + 1).boxed().toList();
+
+        assertEquals(300, result.getTotalRows());
+        assertEquals(expectedErrorRows, result.getErrors().stream().map(CsvImportResult.CsvImportError::getRow).toList());
+        assertEquals(expectedErrorRows.size(), result.getErrorCount());
+        assertEquals(expectedImportedRows, importService.processedRows);
+    }
+
+    @Test
+    @DisplayName("Parallel preview keeps row order and row numbers")
+    void testPreview_ParallelValidationKeepsRowOrder() {
+        CsvPreviewResult preview = importService.previewCsv(csv(mixedRows(300)));
+
+        List<Integer> expectedRows = IntStream.rangeClosed(1, 300)
+                .filter(i -> i % 7 != 0).map(i -> i + 1).boxed().toList();
+
+        assertEquals(expectedRows, preview.getRows().stream().map(CsvPreviewResult.CsvRowPreview::getRowNumber).toList());
+        preview.getRows().forEach(row -> assertEquals(!row.getData()[0].startsWith("bad"), row.isValid()));
+        assertEquals(expectedRows.size(), preview.getTotalRows());
+    }
+
+    @Test
+    @DisplayName("Exception while validating a row becomes that row's error")
+    void testImportStreaming_ValidatorExceptionBecomesRowError() {
+        stubTransactions();
+
+        CsvImportResult<String> sequential = importService.importFromCsvStreaming(
+                csv(List.of("name1", "crash", "name3")), false);
+
+        assertEquals(2, sequential.getSuccessCount());
+        assertEquals(1, sequential.getErrorCount());
+        assertEquals(3, sequential.getErrors().get(0).getRow());
+        assertEquals("Validation", sequential.getErrors().get(0).getField());
+        assertEquals("Unexpected value", sequential.getErrors().get(0).getMessage());
+
+        List<String> rows = new ArrayList<>(names(100));
+        rows.set(49, "crash");
+        CsvImportResult<String> parallel = importService.importFromCsvStreaming(csv(rows), false);
+
+        assertEquals(99, parallel.getSuccessCount());
+        assertEquals(1, parallel.getErrorCount());
+        assertEquals(51, parallel.getErrors().get(0).getRow());
+        assertEquals("Unexpected value", parallel.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("Exception while previewing a row marks only that row invalid")
+    void testPreview_ValidatorExceptionBecomesRowError() {
+        List<String> rows = new ArrayList<>(names(100));
+        rows.set(49, "crash");
+
+        CsvPreviewResult preview = importService.previewCsv(csv(rows));
+
+        assertEquals(100, preview.getTotalRows());
+        assertEquals(1, preview.getInvalidRows());
+        CsvPreviewResult.CsvRowPreview crashed = preview.getRows().get(49);
+        assertEquals(51, crashed.getRowNumber());
+        assertFalse(crashed.isValid());
+        assertEquals(List.of("Validation failed: Unexpected value"), crashed.getErrors());
+    }
+}
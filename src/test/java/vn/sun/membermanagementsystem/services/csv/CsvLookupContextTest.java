@@ -0,0 +1,67 @@
+package vn.sun.membermanagementsystem.services.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvLookupContext Unit Tests")
+class CsvLookupContextTest {
+
+    private record Skill(String name) {
+    }
+
+    private final List<Set<String>> loaderCalls = new ArrayList<>();
+    private final CsvLookupContext lookups = new CsvLookupContext();
+
+    private List<Skill> loadSkills(Set<String> names) {
+        loaderCalls.add(names);
+        return names.stream().filter(name -> !name.startsWith("missing")).map(name -> new Skill(name.toUpperCase())).toList();
+    }
+
+    @Test
+    @DisplayName("Resolve loads all distinct keys with one call and matches them case-insensitively")
+    void testResolve_SingleLoad() {
+        lookups.resolve("skill", List.of("Java", " java ", "Python", ""), this::loadSkills, Skill::name);
+
+        assertEquals(List.of(Set.of("java", "python")), loaderCalls);
+        assertEquals(new Skill("JAVA"), lookups.get("skill", "JAVA"));
+        assertTrue(lookups.contains("skill", "python"));
+    }
+
+    @Test
+    @DisplayName("Keys already resolved, found or missing, are not loaded again")
+    void testResolve_RemembersFoundAndMissing() {
+        lookups.resolve("skill", List.of("Java", "missing-go"), this::loadSkills, Skill::name);
+        lookups.resolve("skill", List.of("JAVA", "Missing-Go", "Rust"), this::loadSkills, Skill::name);
+
+        assertEquals(List.of(Set.of("java", "missing-go"), Set.of("rust")), loaderCalls);
+        assertFalse(lookups.contains("skill", "missing-go"));
+    }
+
+    @Test
+    @DisplayName("Put makes a created value visible to later lookups")
+    void testPut() {
+        lookups.resolve("skill", List.of("missing-go"), this::loadSkills, Skill::name);
+
+        lookups.put("skill", "Missing-Go", new Skill("Go"));
+
+        assertEquals(new Skill("Go"), lookups.get("skill", "missing-go"));
+        assertNull(lookups.get("position", "missing-go"));
+    }
+
+    @Test
+    @DisplayName("Duplicate keys in the file point back to their first row")
+    void testDuplicateOf() {
+        lookups.registerRow("email", "a@example.com", 2);
+        lookups.registerRow("email", "A@Example.com ", 5);
+
+        assertNull(lookups.duplicateOf("email", "a@example.com", 2));
+        assertEquals(2, lookups.duplicateOf("email", "a@example.com", 5));
+        assertNull(lookups.duplicateOf("name", "a@example.com", 5));
+    }
+}
@@ -0,0 +1,185 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.dto.response.ImportJobDTO;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.enums.ImportJobStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.csv.impls.PositionCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.ProjectCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.SkillCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.TeamCsvImportService;
+import vn.sun.membermanagementsystem.services.csv.impls.UserCsvImportService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportJobServiceImpl Unit Tests")
+class ImportJobServiceImplTest {
+
+    @Mock
+    private UserCsvImportService userCsvImportService;
+
+    @Mock
+    private TeamCsvImportService teamCsvImportService;
+
+    @Mock
+    private SkillCsvImportService skillCsvImportService;
+
+    @Mock
+    private PositionCsvImportService positionCsvImportService;
+
+    @Mock
+    private ProjectCsvImportService projectCsvImportService;
+
+    @InjectMocks
+    private ImportJobServiceImpl importJobService;
+
+    @TempDir
+    Path storageDir;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(importJobService, "storageDir", storageDir.toString());
+        ReflectionTestUtils.setField(importJobService, "poolSize", 1);
+        ReflectionTestUtils.setField(importJobService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(importJobService, "retentionMinutes", 0L);
+        importJobService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        importJobService.shutdown();
+    }
+
+    private MockMultipartFile csv() {
+        return new MockMultipartFile("file", "users.csv", "text/csv",
+                "Name,Email\nA,a@example.com\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CsvImportResult<User> result(int successCount) {
+        CsvImportResult<User> result = new CsvImportResult<>();
+        result.setSuccessCount(successCount);
+        return result;
+    }
+
+    private ImportJobDTO awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ImportJobDTO job = importJobService.getJob(jobId);
+        while (job.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = importJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    // The stored upload is deleted right after the job finishes
+    private long storedFiles() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try (Stream<Path> files = Files.list(storageDir)) {
+                long count = files.count();
+                if (count == 0 || System.nanoTime() >= deadline) {
+                    return count;
+                }
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Submitted import runs in the background and removes its stored file")
+    void testSubmitImport_Completes() throws Exception {
+        when(userCsvImportService.importFromCsvStreaming(any(), eq(true), any())).thenReturn(result(1));
+
+        ImportJobDTO submitted = importJobService.submitImport("users", csv(), true);
+        ImportJobDTO finished = awaitFinished(submitted.getJobId());
+
+        assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+        assertNotNull(finished.getFinishedAt());
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    @DisplayName("Import throwing an exception ends as FAILED with its message")
+    void testSubmitImport_Fails() throws Exception {
+        when(userCsvImportService.importFromCsvStreaming(any(), anyBoolean(), any()))
+                .thenThrow(new IllegalStateException("broken file"));
+
+        ImportJobDTO finished = awaitFinished(importJobService.submitImport("users", csv(), false).getJobId());
+
+        assertEquals(ImportJobStatus.FAILED, finished.getStatus());
+        assertEquals("broken file", finished.getMessage());
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    @DisplayName("Unsupported type and empty file are rejected")
+    void testSubmitImport_InvalidRequest_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> importJobService.submitImport("invoices", csv(), false));
+        assertThrows(BadRequestException.class, () -> importJobService.submitImport("users",
+                new MockMultipartFile("file", "users.csv", "text/csv", new byte[0]), false));
+    }
+
+    @Test
+    @DisplayName("Uploads beyond the pool and queue are rejected, and a queued job can be cancelled")
+    void testSubmitImport_QueueFull_And_CancelQueued() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(userCsvImportService.importFromCsvStreaming(any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return result(1);
+        });
+
+        String running = importJobService.submitImport("users", csv(), false).getJobId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        String queued = importJobService.submitImport("users", csv(), false).getJobId();
+
+        assertThrows(BadRequestException.class, () -> importJobService.submitImport("users", csv(), false));
+
+        ImportJobDTO cancelled = importJobService.cancelJob(queued);
+        assertEquals(ImportJobStatus.CANCELLED, cancelled.getStatus());
+
+        release.countDown();
+        assertEquals(ImportJobStatus.COMPLETED, awaitFinished(running).getStatus());
+        verify(userCsvImportService, times(1)).importFromCsvStreaming(any(), anyBoolean(), any());
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    @DisplayName("Finished jobs are evicted after the retention period")
+    void testEvictFinishedJobs() throws Exception {
+        when(userCsvImportService.importFromCsvStreaming(any(), anyBoolean(), any())).thenReturn(result(1));
+        String jobId = importJobService.submitImport("users", csv(), false).getJobId();
+        awaitFinished(jobId);
+        Thread.sleep(5);
+
+        importJobService.evictFinishedJobs();
+
+        assertThrows(ResourceNotFoundException.class, () -> importJobService.getJob(jobId));
+    }
+}
@@ -20,6 +20,7 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.SkillMapper;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.services.cache.ReferenceDataCache;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -40,6 +41,9 @@ class SkillServiceImplTest {
     @Mock
     private SkillMapper skillMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private SkillServiceImpl skillService;
 
@@ -7,7 +7,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import vn.sun.membermanagementsystem.config.jwt.TokenDenyList;
+import vn.sun.membermanagementsystem.config.security.UserDetailsCache;
 import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
 import vn.sun.membermanagementsystem.dto.response.UserListItemDTO;
 import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
@@ -18,6 +24,8 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.UserMapper;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.cascade.SoftDeleteCascade;
+import vn.sun.membermanagementsystem.services.loader.UserProfileLoader;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -42,6 +50,18 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private TokenDenyList tokenDenyList;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserProfileLoader userProfileLoader;
+
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -101,7 +121,7 @@ class UserServiceImplTest {
         when(userRepository.existsByEmailAndNotDeleted(userCreateDTO.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(userCreateDTO.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(userMapper.toProfileDetailDTO(testUser)).thenReturn(userProfileDetailDTO);
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.createUser(userCreateDTO);
 
@@ -113,7 +133,7 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).existsByEmailAndNotDeleted(userCreateDTO.getEmail());
         verify(passwordEncoder, times(1)).encode(userCreateDTO.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
-        verify(userMapper, times(1)).toProfileDetailDTO(testUser);
+        verify(userProfileLoader, times(1)).loadDetail(1L);
     }
 
     @Test
@@ -142,7 +162,7 @@ class UserServiceImplTest {
             assertEquals(UserStatus.ACTIVE, user.getStatus());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.createUser(userCreateDTO);
 
@@ -161,6 +181,7 @@ class UserServiceImplTest {
         assertTrue(result);
         verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(softDeleteCascade, times(1)).deleteUser(1L);
     }
 
     @Test
@@ -176,27 +197,27 @@ class UserServiceImplTest {
         assertTrue(exception.getMessage().contains("User not found with ID"));
         verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(softDeleteCascade);
     }
 
     @Test
     @DisplayName("Get user detail by ID successfully")
     void testGetUserDetailById_Success() {
-        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(testUser));
-        when(userMapper.toProfileDetailDTO(testUser)).thenReturn(userProfileDetailDTO);
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.getUserDetailById(1L);
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Lê Quốc Việt", result.getName());
-        verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
-        verify(userMapper, times(1)).toProfileDetailDTO(testUser);
+        verify(userProfileLoader, times(1)).loadDetail(1L);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
     @DisplayName("Get user detail by ID not found should throw ResourceNotFoundException")
     void testGetUserDetailById_NotFound_ThrowsException() {
-        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.empty());
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -204,7 +225,7 @@ class UserServiceImplTest {
         );
 
         assertTrue(exception.getMessage().contains("User not found with ID"));
-        verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
+        verify(userProfileLoader, times(1)).loadDetail(1L);
     }
 
     @Test
@@ -341,7 +362,7 @@ class UserServiceImplTest {
             assertEquals(encodedPassword, user.getPasswordHash());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         userService.createUser(userCreateDTO);
 
@@ -360,7 +381,7 @@ class UserServiceImplTest {
             assertNull(user.getDeletedAt());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileLoader.loadDetail(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         userService.createUser(userCreateDTO);
 
@@ -368,4 +389,46 @@ class UserServiceImplTest {
                 user.getCreatedAt() != null && user.getUpdatedAt() != null && user.getDeletedAt() == null
         ));
     }
+
+    @Test
+    @DisplayName("Search user list uses the full-text query for keywords of indexable words")
+    void testSearchUsersForListWithTeam_FullTextKeyword() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<UserListItemDTO> expected = new PageImpl<>(List.of(userListItemDTO), pageable, 1);
+        when(userRepository.searchUserListItems("+\"nguyen\" +\"example\" +\"com\"", null, UserStatus.ACTIVE, null,
+                5L, pageable)).thenReturn(expected);
+
+        Page<UserListItemDTO> result = userService.searchUsersForListWithTeam(
+                "nguyen @example.com", UserStatus.ACTIVE, null, 5L, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    @DisplayName("Search user list keeps short words as a LIKE filter next to the full-text query")
+    void testSearchUsersForListWithTeam_MixedKeyword() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.searchUserListItems("+\"Nguyen\" +\"Van\"", "Nguyen Van A", null, null, null, pageable))
+                .thenReturn(Page.empty(pageable));
+        when(userRepository.searchUserListItems("+\"example\"", "x@example.c", null, null, null, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        assertTrue(userService.searchUsersForListWithTeam(" Nguyen Van A ", null, null, null, pageable).isEmpty());
+        assertTrue(userService.searchUsersForListWithTeam("x@example.c", null, null, null, pageable).isEmpty());
+        verify(userRepository, times(1))
+                .searchUserListItems("+\"Nguyen\" +\"Van\"", "Nguyen Van A", null, null, null, pageable);
+    }
+
+    @Test
+    @DisplayName("Search user list falls back to LIKE for single-character keywords")
+    void testSearchUsersForListWithTeam_ShortKeyword() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.searchUserListItems(null, "a", null, null, null, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        Page<UserListItemDTO> result = userService.searchUsersForListWithTeam(" a ", null, null, null, pageable);
+
+        assertTrue(result.isEmpty());
+    }
 }
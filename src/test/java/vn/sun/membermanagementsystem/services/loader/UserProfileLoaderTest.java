@@ -0,0 +1,106 @@
+package vn.sun.membermanagementsystem.services.loader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import vn.sun.membermanagementsystem.dto.request.UserUpdateDTO;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
+import vn.sun.membermanagementsystem.entities.Project;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.repositories.ProjectMemberRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.repositories.UserSkillRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileLoader Unit Tests")
+class UserProfileLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private UserSkillRepository userSkillRepository;
+
+    @InjectMocks
+    private UserProfileLoader userProfileLoader;
+
+    private UserProfileDetailDTO header;
+
+    @BeforeEach
+    void setUp() {
+        header = new UserProfileDetailDTO(1L, "Lê Quốc Việt", "le.quoc.viet-c@sun-asterisk.com",
+                LocalDate.of(2004, 5, 27), UserRole.MEMBER, UserStatus.ACTIVE,
+                LocalDateTime.now(), LocalDateTime.now(), "Team A", 3L, "Developer", "DEV");
+    }
+
+    @Test
+    @DisplayName("Load user detail with a repository call count of three")
+    void testLoadDetail_UsesThreeQueries() {
+        when(userRepository.findProfileDetailById(1L)).thenReturn(Optional.of(header));
+        when(projectMemberRepository.findActiveProjectInfosByUserId(1L)).thenReturn(List.of(
+                new UserProfileDetailDTO.ProjectInfo(5L, "Project X", "PX", Project.ProjectStatus.ONGOING)));
+        when(userSkillRepository.findSkillInfosByUserId(1L)).thenReturn(List.of(
+                new UserProfileDetailDTO.SkillInfo(7L, "Java", UserSkill.Level.ADVANCED, BigDecimal.valueOf(2))));
+
+        UserProfileDetailDTO result = userProfileLoader.loadDetail(1L).orElseThrow();
+
+        assertEquals("Team A", result.getActiveTeam());
+        assertEquals(3L, result.getCurrentPosition().getId());
+        assertEquals("ONGOING", result.getActiveProjects().get(0).getStatus());
+        assertEquals("Java", result.getSkills().get(0).getSkillName());
+
+        verify(userRepository, times(1)).findProfileDetailById(1L);
+        verify(projectMemberRepository, times(1)).findActiveProjectInfosByUserId(1L);
+        verify(userSkillRepository, times(1)).findSkillInfosByUserId(1L);
+        verifyNoMoreInteractions(userRepository, projectMemberRepository, userSkillRepository);
+    }
+
+    @Test
+    @DisplayName("Load user detail of missing user stops after the header query")
+    void testLoadDetail_NotFound() {
+        when(userRepository.findProfileDetailById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(userProfileLoader.loadDetail(1L).isEmpty());
+
+        verify(userRepository, times(1)).findProfileDetailById(1L);
+        verifyNoInteractions(projectMemberRepository, userSkillRepository);
+    }
+
+    @Test
+    @DisplayName("Load user form with a repository call count of two")
+    void testLoadForm_UsesTwoQueries() {
+        when(userRepository.findProfileDetailById(1L)).thenReturn(Optional.of(header));
+        when(userSkillRepository.findSkillInfosByUserId(1L)).thenReturn(List.of(
+                new UserProfileDetailDTO.SkillInfo(7L, "Java", UserSkill.Level.ADVANCED, BigDecimal.valueOf(2))));
+
+        UserUpdateDTO result = userProfileLoader.loadForm(1L).orElseThrow();
+
+        assertEquals(3L, result.getPositionId());
+        assertEquals("Developer", result.getPositionName());
+        assertEquals(7L, result.getSkills().get(0).getSkillId());
+        assertNull(result.getPassword());
+
+        verify(userRepository, times(1)).findProfileDetailById(1L);
+        verify(userSkillRepository, times(1)).findSkillInfosByUserId(1L);
+        verifyNoMoreInteractions(userRepository, userSkillRepository);
+        verifyNoInteractions(projectMemberRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package vn.sun.membermanagementsystem.services.membership;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO.MemberOutcome;
+import vn.sun.membermanagementsystem.dto.response.BulkMemberAddResultDTO.Outcome;
+import vn.sun.membermanagementsystem.entities.Team;
+import vn.sun.membermanagementsystem.entities.TeamMember;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.repositories.TeamMemberBatchRepository;
+import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkMembershipEngine Unit Tests")
+class BulkMembershipEngineTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TeamMemberBatchRepository teamMemberBatchRepository;
+
+    @InjectMocks
+    private BulkMembershipEngine bulkMembershipEngine;
+
+    private Team team;
+    private Team otherTeam;
+
+    @BeforeEach
+    void setUp() {
+        team = new Team();
+        team.setId(1L);
+        otherTeam = new Team();
+        otherTeam.setId(2L);
+    }
+
+    private User user(Long id, String name) {
+        return User.builder().id(id).name(name).build();
+    }
+
+    private TeamMember membership(User user, Team team) {
+        TeamMember membership = new TeamMember();
+        membership.setUser(user);
+        membership.setTeam(team);
+        return membership;
+    }
+
+    @Test
+    @DisplayName("Add members validates in two queries and writes in one update and one batch")
+    void testAddMembers_ReportsOutcomePerUser() {
+        User added = user(10L, "Alice");
+        User member = user(11L, "Bob");
+        User elsewhere = user(12L, "Carol");
+        List<Long> userIds = List.of(10L, 11L, 12L, 13L, 10L);
+        when(userRepository.findAllByIdInAndNotDeleted(List.of(10L, 11L, 12L, 13L)))
+                .thenReturn(List.of(added, member, elsewhere));
+        when(teamMemberRepository.findActiveTeamsByUserIds(List.of(10L, 11L, 12L, 13L)))
+                .thenReturn(List.of(membership(member, team), membership(elsewhere, otherTeam)));
+
+        BulkMemberAddResultDTO result = bulkMembershipEngine.addMembers(team, userIds);
+
+        assertEquals(1, result.getAddedCount());
+        assertEquals(List.of(Outcome.ADDED, Outcome.ALREADY_MEMBER, Outcome.IN_OTHER_TEAM, Outcome.NOT_FOUND),
+                result.getOutcomes().stream().map(MemberOutcome::getOutcome).toList());
+        verify(teamMemberRepository, times(1)).closeActiveMemberships(eq(List.of(10L)), any());
+        verify(teamMemberBatchRepository, times(1)).insertActiveMembers(eq(1L), eq(List.of(10L)), any());
+        verifyNoMoreInteractions(userRepository, teamMemberRepository, teamMemberBatchRepository);
+    }
+
+    @Test
+    @DisplayName("Add members writes nothing when every user is skipped")
+    void testAddMembers_NothingToAdd() {
+        when(userRepository.findAllByIdInAndNotDeleted(List.of(20L))).thenReturn(List.of());
+        when(teamMemberRepository.findActiveTeamsByUserIds(List.of(20L))).thenReturn(List.of());
+
+        BulkMemberAddResultDTO result = bulkMembershipEngine.addMembers(team, List.of(20L));
+
+        assertEquals(0, result.getAddedCount());
+        assertEquals("User ID 20 not found", result.getOutcomes().get(0).getMessage());
+        verify(teamMemberRepository, never()).closeActiveMemberships(anyCollection(), any());
+        verifyNoInteractions(teamMemberBatchRepository);
+    }
+}
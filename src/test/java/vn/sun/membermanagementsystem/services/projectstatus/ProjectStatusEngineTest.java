@@ -0,0 +1,78 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository.StatusRow;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatusEngine Unit Tests")
+class ProjectStatusEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private ProjectRepository projectRepo;
+
+    @InjectMocks
+    private ProjectStatusEngine projectStatusEngine;
+
+    @Test
+    @DisplayName("Status follows start and end dates")
+    void testStatusOn() {
+        assertEquals(ProjectStatus.PLANNING, ProjectStatusEngine.statusOn(TODAY.plusDays(1), null, TODAY));
+        assertEquals(ProjectStatus.ONGOING, ProjectStatusEngine.statusOn(TODAY, null, TODAY));
+        assertEquals(ProjectStatus.ONGOING, ProjectStatusEngine.statusOn(TODAY.minusDays(5), TODAY.plusDays(1), TODAY));
+        assertEquals(ProjectStatus.COMPLETED, ProjectStatusEngine.statusOn(TODAY.minusDays(5), TODAY, TODAY));
+    }
+
+    @Test
+    @DisplayName("Refresh chunk without stale projects runs no update")
+    void testRefreshChunk_NothingStale() {
+        List<ProjectStatusChange> changes = projectStatusEngine.refreshChunk(ProjectStatus.COMPLETED, TODAY, 0, 100);
+
+        assertTrue(changes.isEmpty());
+        verify(projectRepo, never()).refreshStatuses(anyCollection(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Refresh chunk reports the transition of each stale project")
+    void testRefreshChunk_ReportsChanges() {
+        when(projectRepo.findEndedBy(anyCollection(), eq(TODAY), eq(10L), any(Limit.class))).thenReturn(List.of(
+                new StatusRow(11L, ProjectStatus.ONGOING, TODAY.minusDays(10), TODAY.minusDays(1)),
+                new StatusRow(12L, ProjectStatus.PLANNING, TODAY.plusDays(1), TODAY)));
+        when(projectRepo.refreshStatuses(anyCollection(), eq(TODAY), any(), any(), any(), any(), any()))
+                .thenReturn(2);
+
+        List<ProjectStatusChange> changes = projectStatusEngine.refreshChunk(ProjectStatus.COMPLETED, TODAY, 10, 100);
+
+        assertEquals(List.of(
+                new ProjectStatusChange(11L, ProjectStatus.ONGOING, ProjectStatus.COMPLETED),
+                new ProjectStatusChange(12L, ProjectStatus.PLANNING, ProjectStatus.COMPLETED)), changes);
+        verify(projectRepo, times(1)).refreshStatuses(eq(List.of(11L, 12L)), eq(TODAY), any(),
+                eq(ProjectStatus.COMPLETED), eq(ProjectStatus.ONGOING), eq(ProjectStatus.PLANNING),
+                eq(ProjectStatus.CANCELLED));
+        verify(projectRepo, never()).findRunningOn(anyCollection(), any(), anyLong(), any());
+        verify(projectRepo, never()).findNotStartedBy(anyCollection(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Refresh chunk never moves projects to CANCELLED")
+    void testRefreshChunk_CancelledTarget_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> projectStatusEngine.refreshChunk(ProjectStatus.CANCELLED, TODAY, 0, 100));
+    }
+}
@@ -0,0 +1,109 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.services.job.JobExecutionStore;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatusJob Unit Tests")
+class ProjectStatusJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Mock
+    private JobExecutionStore jobExecutionStore;
+
+    @Mock
+    private ProjectStatusEngine projectStatusEngine;
+
+    @Mock
+    private ProjectStatusChangePublisher changePublisher;
+
+    @InjectMocks
+    private ProjectStatusJob projectStatusJob;
+
+    // Checkpoints stored by the fake runChunk, in order
+    private final List<String> checkpoints = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projectStatusJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(projectStatusJob, "lease", LEASE);
+    }
+
+    private void runChunksFrom(String checkpoint) {
+        checkpoints.add(checkpoint);
+        when(jobExecutionStore.acquire(ProjectStatusJob.JOB_NAME, TODAY.toString(), LEASE)).thenReturn(Optional.of(1L));
+        when(jobExecutionStore.runChunk(eq(1L), eq(LEASE), any())).thenAnswer(invocation -> {
+            JobExecutionStore.Chunk chunk = invocation.getArgument(2);
+            JobExecutionStore.ChunkResult result = chunk.process(checkpoints.get(checkpoints.size() - 1));
+            checkpoints.add(result.checkpoint());
+            return !result.done();
+        });
+    }
+
+    @Test
+    @DisplayName("Run is skipped when another node holds the lease")
+    void testRun_LeaseHeldElsewhere() {
+        when(jobExecutionStore.acquire(ProjectStatusJob.JOB_NAME, TODAY.toString(), LEASE)).thenReturn(Optional.empty());
+
+        projectStatusJob.run(TODAY);
+
+        verify(jobExecutionStore, never()).runChunk(any(), any(), any());
+        verifyNoInteractions(projectStatusEngine, changePublisher);
+    }
+
+    @Test
+    @DisplayName("Run walks every target status in keyset chunks and checkpoints each one")
+    void testRun_ProcessesAllChunks() {
+        runChunksFrom(null);
+        when(projectStatusEngine.refreshChunk(ProjectStatus.COMPLETED, TODAY, 0, 2)).thenReturn(List.of(
+                new ProjectStatusChange(3L, ProjectStatus.ONGOING, ProjectStatus.COMPLETED),
+                new ProjectStatusChange(7L, ProjectStatus.ONGOING, ProjectStatus.COMPLETED)));
+        when(projectStatusEngine.refreshChunk(ProjectStatus.COMPLETED, TODAY, 7, 2)).thenReturn(List.of(
+                new ProjectStatusChange(9L, ProjectStatus.PLANNING, ProjectStatus.COMPLETED)));
+
+        projectStatusJob.run(TODAY);
+
+        assertEquals(Arrays.asList(null, "COMPLETED:7", "ONGOING:0", "PLANNING:0", "PLANNING:0"),
+                checkpoints);
+        verify(changePublisher, times(1)).publish(List.of(
+                new ProjectStatusChange(3L, ProjectStatus.ONGOING, ProjectStatus.COMPLETED),
+                new ProjectStatusChange(7L, ProjectStatus.ONGOING, ProjectStatus.COMPLETED)));
+        verify(changePublisher, times(1)).publish(List.of(
+                new ProjectStatusChange(9L, ProjectStatus.PLANNING, ProjectStatus.COMPLETED)));
+        verify(changePublisher, times(2)).publish(List.of());
+    }
+
+    @Test
+    @DisplayName("Run resumes from the stored checkpoint")
+    void testRun_ResumesFromCheckpoint() {
+        runChunksFrom("ONGOING:42");
+
+        projectStatusJob.run(TODAY);
+
+        verify(projectStatusEngine).refreshChunk(ProjectStatus.ONGOING, TODAY, 42, 2);
+        verify(projectStatusEngine).refreshChunk(ProjectStatus.PLANNING, TODAY, 0, 2);
+        verify(projectStatusEngine, never()).refreshChunk(eq(ProjectStatus.COMPLETED), any(), anyLong(), anyInt());
+        verify(changePublisher, times(2)).publish(List.of());
+    }
+}
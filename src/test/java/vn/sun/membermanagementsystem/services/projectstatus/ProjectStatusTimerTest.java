@@ -0,0 +1,115 @@
+package vn.sun.membermanagementsystem.services.projectstatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.entities.Project.ProjectStatus;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository;
+import vn.sun.membermanagementsystem.repositories.ProjectRepository.StatusRow;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatusTimer Unit Tests")
+class ProjectStatusTimerTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private ProjectRepository projectRepo;
+
+    @Mock
+    private ProjectStatusEngine projectStatusEngine;
+
+    @Mock
+    private ProjectStatusChangePublisher changePublisher;
+
+    @InjectMocks
+    private ProjectStatusTimer projectStatusTimer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projectStatusTimer, "horizonDays", 2);
+    }
+
+    @Test
+    @DisplayName("Only transitions within the horizon are queued")
+    void testSchedule_WithinHorizonOnly() {
+        projectStatusTimer.schedule(1L, TODAY.plusDays(1), TODAY.plusDays(10), TODAY);
+        projectStatusTimer.schedule(2L, TODAY.minusDays(3), TODAY, TODAY);
+
+        assertEquals(1, projectStatusTimer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Reload queues the transitions found in the horizon")
+    void testReload() {
+        when(projectRepo.findWithDatesBetween(anyCollection(), eq(TODAY), eq(TODAY.plusDays(2)))).thenReturn(List.of(
+                new StatusRow(1L, ProjectStatus.PLANNING, TODAY.plusDays(1), TODAY.plusDays(2)),
+                new StatusRow(2L, ProjectStatus.ONGOING, TODAY.minusDays(5), TODAY.plusDays(1))));
+
+        projectStatusTimer.reload();
+
+        assertEquals(3, projectStatusTimer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Due transitions refresh the project on their boundary date")
+    void testFire_RefreshesProject() {
+        LocalDate startDate = TODAY.plusDays(1);
+        projectStatusTimer.schedule(1L, startDate, null, TODAY);
+        List<ProjectStatusChange> changes =
+                List.of(new ProjectStatusChange(1L, ProjectStatus.PLANNING, ProjectStatus.ONGOING));
+        when(projectStatusEngine.refreshProjects(List.of(1L), startDate)).thenReturn(changes);
+
+        projectStatusTimer.fire(List.of(new ProjectStatusTimer.Due(1L, 1, startDate, Instant.now())));
+
+        verify(changePublisher, times(1)).publish(changes);
+    }
+
+    @Test
+    @DisplayName("Transitions of a rescheduled or cancelled project are ignored")
+    void testFire_IgnoresSupersededEntries() {
+        projectStatusTimer.schedule(1L, TODAY.plusDays(1), null, TODAY);
+        projectStatusTimer.schedule(1L, TODAY.plusDays(2), null, TODAY);
+        projectStatusTimer.schedule(2L, TODAY.plusDays(1), null, TODAY);
+        projectStatusTimer.cancel(2L);
+
+        projectStatusTimer.fire(List.of(
+                new ProjectStatusTimer.Due(1L, 1, TODAY.plusDays(1), Instant.now()),
+                new ProjectStatusTimer.Due(2L, 1, TODAY.plusDays(1), Instant.now())));
+
+        verifyNoInteractions(projectStatusEngine, changePublisher);
+    }
+
+    @Test
+    @DisplayName("Reload with rows read before a reschedule does not supersede it")
+    void testReload_DoesNotSupersedeReschedule() {
+        LocalDate oldStartDate = TODAY.plusDays(1);
+        LocalDate newStartDate = TODAY.plusDays(2);
+        when(projectRepo.findWithDatesBetween(anyCollection(), eq(TODAY), eq(TODAY.plusDays(2)))).thenReturn(List.of(
+                new StatusRow(1L, ProjectStatus.PLANNING, oldStartDate, null)));
+        List<ProjectStatusChange> changes =
+                List.of(new ProjectStatusChange(1L, ProjectStatus.PLANNING, ProjectStatus.ONGOING));
+        when(projectStatusEngine.refreshProjects(List.of(1L), newStartDate)).thenReturn(changes);
+
+        projectStatusTimer.reschedule(1L, newStartDate, null);
+        projectStatusTimer.reload();
+
+        assertEquals(2, projectStatusTimer.pendingCount());
+        projectStatusTimer.fire(List.of(new ProjectStatusTimer.Due(1L, 1, newStartDate, Instant.now())));
+
+        verify(changePublisher, times(1)).publish(changes);
+    }
+}